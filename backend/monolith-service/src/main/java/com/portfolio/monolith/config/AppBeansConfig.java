@@ -2,19 +2,169 @@ package com.portfolio.monolith.config;
 
 import java.time.Duration;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * One pooled Apache HttpClient per outbound dependency, so a slow storage transfer cannot starve
+ * auth calls of connections. Connections are kept alive and reused (one TLS handshake per pooled
+ * connection rather than per call), idle ones are evicted, and pool usage is exported as the
+ * {@code httpcomponents.httpclient.pool.*} metrics tagged with the pool name. The Supabase clients
+ * are additionally guarded by the resilience4j circuit breaker and bulkhead of the same name.
+ */
 @Configuration
 public class AppBeansConfig {
 
+  @Bean(destroyMethod = "close")
+  public CloseableHttpClient supabaseAuthHttpClient(
+      MeterRegistry meterRegistry,
+      @Value("${app.http.supabase-auth.connect-timeout:5s}") Duration connectTimeout,
+      @Value("${app.http.supabase-auth.read-timeout:10s}") Duration readTimeout,
+      @Value("${app.http.supabase-auth.max-connections:20}") int maxConnections,
+      @Value("${app.http.keep-alive:60s}") Duration keepAlive,
+      @Value("${app.http.idle-eviction:30s}") Duration idleEviction) {
+    return pooledClient(
+            meterRegistry,
+            "supabase-auth",
+            connectTimeout,
+            readTimeout,
+            maxConnections,
+            keepAlive,
+            idleEviction)
+        .build();
+  }
+
+  @Bean(destroyMethod = "close")
+  public CloseableHttpClient supabaseStorageHttpClient(
+      MeterRegistry meterRegistry,
+      @Value("${app.http.supabase-storage.connect-timeout:10s}") Duration connectTimeout,
+      @Value("${app.http.supabase-storage.read-timeout:60s}") Duration readTimeout,
+      @Value("${app.http.supabase-storage.max-connections:20}") int maxConnections,
+      @Value("${app.http.keep-alive:60s}") Duration keepAlive,
+      @Value("${app.http.idle-eviction:30s}") Duration idleEviction) {
+    return pooledClient(
+            meterRegistry,
+            "supabase-storage",
+            connectTimeout,
+            readTimeout,
+            maxConnections,
+            keepAlive,
+            idleEviction)
+        // Resume bodies are passed through byte for byte, with their Content-Length.
+        .disableContentCompression()
+        .build();
+  }
+
+  @Bean(destroyMethod = "close")
+  public CloseableHttpClient turnstileHttpClient(
+      MeterRegistry meterRegistry,
+      @Value("${app.http.turnstile.connect-timeout:3s}") Duration connectTimeout,
+      @Value("${app.http.turnstile.read-timeout:5s}") Duration readTimeout,
+      @Value("${app.http.turnstile.max-connections:10}") int maxConnections,
+      @Value("${app.http.keep-alive:60s}") Duration keepAlive,
+      @Value("${app.http.idle-eviction:30s}") Duration idleEviction) {
+    return pooledClient(
+            meterRegistry,
+            "turnstile",
+            connectTimeout,
+            readTimeout,
+            maxConnections,
+            keepAlive,
+            idleEviction)
+        .build();
+  }
+
+  @Bean
+  public RestTemplate supabaseAuthRestTemplate(
+      RestTemplateBuilder builder,
+      CircuitBreakerRegistry circuitBreakerRegistry,
+      BulkheadRegistry bulkheadRegistry,
+      @Qualifier("supabaseAuthHttpClient") CloseableHttpClient httpClient) {
+    return builder
+        .requestFactory(
+            () ->
+                new ResilientClientHttpRequestFactory(
+                    new HttpComponentsClientHttpRequestFactory(httpClient),
+                    circuitBreakerRegistry.circuitBreaker("supabase-auth"),
+                    bulkheadRegistry.bulkhead("supabase-auth")))
+        .build();
+  }
+
   @Bean
-  public RestTemplate restTemplate(RestTemplateBuilder builder) {
+  public RestTemplate supabaseStorageRestTemplate(
+      RestTemplateBuilder builder,
+      CircuitBreakerRegistry circuitBreakerRegistry,
+      BulkheadRegistry bulkheadRegistry,
+      @Qualifier("supabaseStorageHttpClient") CloseableHttpClient httpClient) {
     return builder
-        .setConnectTimeout(Duration.ofSeconds(10))
-        .setReadTimeout(Duration.ofSeconds(15))
+        .requestFactory(
+            () ->
+                new ResilientClientHttpRequestFactory(
+                    new HttpComponentsClientHttpRequestFactory(httpClient),
+                    circuitBreakerRegistry.circuitBreaker("supabase-storage"),
+                    bulkheadRegistry.bulkhead("supabase-storage")))
         .build();
   }
+
+  @Bean
+  public RestTemplate turnstileRestTemplate(
+      RestTemplateBuilder builder,
+      @Qualifier("turnstileHttpClient") CloseableHttpClient httpClient) {
+    return builder.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+        .build();
+  }
+
+  private static HttpClientBuilder pooledClient(
+      MeterRegistry meterRegistry,
+      String name,
+      Duration connectTimeout,
+      Duration readTimeout,
+      int maxConnections,
+      Duration keepAlive,
+      Duration idleEviction) {
+    // Each client talks to a single host, so the per-route limit is the pool size.
+    PoolingHttpClientConnectionManager connectionManager =
+        PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnections)
+            .setDefaultConnectionConfig(
+                ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.of(connectTimeout))
+                    .setSocketTimeout(Timeout.of(readTimeout))
+                    .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                    .build())
+            .build();
+    new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name)
+        .bindTo(meterRegistry);
+
+    return HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(
+            RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(connectTimeout))
+                .setResponseTimeout(Timeout.of(readTimeout))
+                .build())
+        .setKeepAliveStrategy((response, context) -> TimeValue.of(keepAlive))
+        .evictExpiredConnections()
+        .evictIdleConnections(TimeValue.of(idleEviction));
+  }
 }
@@ -0,0 +1,13 @@
+package com.portfolio.monolith.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Read-through cache for public portfolio content. Caches are Caffeine-backed (bounded size, TTL,
+ * recorded stats) and configured through {@code spring.cache.*}; each data service evicts its own
+ * cache from the write methods.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {}
@@ -0,0 +1,16 @@
+package com.portfolio.monolith.config;
+
+public final class CacheNames {
+
+  public static final String PROJECTS = "projects";
+  public static final String SKILLS = "skills";
+  public static final String EDUCATION = "education";
+  public static final String EXPERIENCE = "experience";
+  public static final String HOBBIES = "hobbies";
+  public static final String TESTIMONIALS = "testimonials";
+  public static final String PORTFOLIO = "portfolio";
+
+  public static final String ALL_KEY = "'all'";
+
+  private CacheNames() {}
+}
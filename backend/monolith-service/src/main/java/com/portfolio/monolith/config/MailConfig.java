@@ -0,0 +1,50 @@
+package com.portfolio.monolith.config;
+
+import java.time.Duration;
+import java.util.Properties;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Replaces Boot's auto-configured mail sender with {@link PooledJavaMailSender}, applying the
+ * same {@code spring.mail.*} properties.
+ */
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+public class MailConfig {
+
+  @Bean
+  public PooledJavaMailSender mailSender(
+      MailProperties properties,
+      MeterRegistry meterRegistry,
+      @Value("${app.mail.pool.max-idle:2}") int maxIdle,
+      @Value("${app.mail.pool.idle-timeout:60s}") Duration idleTimeout,
+      @Value("${app.mail.pool.validate-after:10s}") Duration validateAfter,
+      @Value("${app.mail.pool.max-messages-per-connection:100}") int maxMessagesPerConnection) {
+    PooledJavaMailSender sender =
+        new PooledJavaMailSender(
+            meterRegistry, maxIdle, idleTimeout, validateAfter, maxMessagesPerConnection);
+    sender.setHost(properties.getHost());
+    if (properties.getPort() != null) {
+      sender.setPort(properties.getPort());
+    }
+    sender.setUsername(properties.getUsername());
+    sender.setPassword(properties.getPassword());
+    sender.setProtocol(properties.getProtocol());
+    if (properties.getDefaultEncoding() != null) {
+      sender.setDefaultEncoding(properties.getDefaultEncoding().name());
+    }
+    if (!properties.getProperties().isEmpty()) {
+      Properties javaMailProperties = new Properties();
+      javaMailProperties.putAll(properties.getProperties());
+      sender.setJavaMailProperties(javaMailProperties);
+    }
+    return sender;
+  }
+}
@@ -0,0 +1,205 @@
+package com.portfolio.monolith.config;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * {@link JavaMailSenderImpl} that keeps authenticated SMTP transports open between sends instead
+ * of paying for connect, STARTTLS, AUTH and QUIT on every message. Idle transports are reused
+ * most-recently-used first; one idle longer than {@code validate-after} is checked with NOOP
+ * (via {@link Transport#isConnected()}) before reuse, and ones idle past {@code idle-timeout} or
+ * past {@code max-messages-per-connection} are closed. Each send is timed as {@code mail.send}
+ * tagged by outcome, and the idle pool size is published as {@code mail.transport.pool.idle}.
+ */
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(PooledJavaMailSender.class);
+
+  private final Deque<PooledTransport> idle = new ArrayDeque<>();
+  private final int maxIdle;
+  private final Duration idleTimeout;
+  private final Duration validateAfter;
+  private final int maxMessagesPerConnection;
+  private final Timer sendSuccess;
+  private final Timer sendFailure;
+
+  public PooledJavaMailSender(
+      MeterRegistry meterRegistry,
+      int maxIdle,
+      Duration idleTimeout,
+      Duration validateAfter,
+      int maxMessagesPerConnection) {
+    this.maxIdle = Math.max(0, maxIdle);
+    this.idleTimeout = idleTimeout;
+    this.validateAfter = validateAfter;
+    this.maxMessagesPerConnection = Math.max(1, maxMessagesPerConnection);
+    this.sendSuccess = sendTimer(meterRegistry, "success");
+    this.sendFailure = sendTimer(meterRegistry, "failure");
+    Gauge.builder("mail.transport.pool.idle", this, PooledJavaMailSender::idleCount)
+        .register(meterRegistry);
+  }
+
+  @Override
+  protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages)
+      throws MailException {
+    Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+    PooledTransport transport = null;
+
+    try {
+      for (int i = 0; i < mimeMessages.length; i++) {
+        if (transport == null) {
+          transport = borrow();
+        }
+
+        MimeMessage mimeMessage = mimeMessages[i];
+        long start = System.nanoTime();
+        try {
+          prepare(mimeMessage);
+          Address[] addresses = mimeMessage.getAllRecipients();
+          transport.transport.sendMessage(
+              mimeMessage, addresses != null ? addresses : new Address[0]);
+          transport.sent++;
+          sendSuccess.record(Duration.ofNanos(System.nanoTime() - start));
+        } catch (Exception ex) {
+          sendFailure.record(Duration.ofNanos(System.nanoTime() - start));
+          Object original = originalMessages != null ? originalMessages[i] : mimeMessage;
+          failedMessages.put(original, ex);
+          // The session state is unknown after a failure, so never hand it back to the pool.
+          close(transport);
+          transport = null;
+        }
+      }
+    } finally {
+      if (transport != null) {
+        release(transport);
+      }
+    }
+
+    if (!failedMessages.isEmpty()) {
+      throw new MailSendException(failedMessages);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    synchronized (idle) {
+      PooledTransport transport;
+      while ((transport = idle.pollFirst()) != null) {
+        close(transport);
+      }
+    }
+  }
+
+  private PooledTransport borrow() {
+    while (true) {
+      PooledTransport transport;
+      synchronized (idle) {
+        transport = idle.pollFirst();
+      }
+      if (transport == null) {
+        return open();
+      }
+
+      long idleNanos = System.nanoTime() - transport.releasedAt;
+      if (idleNanos > idleTimeout.toNanos()) {
+        close(transport);
+      } else if (idleNanos > validateAfter.toNanos() && !transport.transport.isConnected()) {
+        log.debug("Dropping SMTP connection that failed its NOOP check");
+        close(transport);
+      } else {
+        return transport;
+      }
+    }
+  }
+
+  private PooledTransport open() {
+    try {
+      return new PooledTransport(connectTransport());
+    } catch (AuthenticationFailedException ex) {
+      throw new MailAuthenticationException(ex);
+    } catch (MessagingException ex) {
+      throw new MailSendException("Mail server connection failed", ex);
+    }
+  }
+
+  private void release(PooledTransport transport) {
+    if (transport.sent >= maxMessagesPerConnection) {
+      close(transport);
+      return;
+    }
+    transport.releasedAt = System.nanoTime();
+    synchronized (idle) {
+      if (idle.size() < maxIdle) {
+        idle.addFirst(transport);
+        return;
+      }
+    }
+    close(transport);
+  }
+
+  private void close(PooledTransport transport) {
+    try {
+      transport.transport.close();
+    } catch (MessagingException ex) {
+      log.debug("Failed to close SMTP connection: {}", ex.getMessage());
+    }
+  }
+
+  private static void prepare(MimeMessage mimeMessage) throws MessagingException {
+    if (mimeMessage.getSentDate() == null) {
+      mimeMessage.setSentDate(new Date());
+    }
+    String messageId = mimeMessage.getMessageID();
+    mimeMessage.saveChanges();
+    if (messageId != null) {
+      // Preserve an explicitly specified message id.
+      mimeMessage.setHeader("Message-ID", messageId);
+    }
+  }
+
+  private int idleCount() {
+    synchronized (idle) {
+      return idle.size();
+    }
+  }
+
+  private static Timer sendTimer(MeterRegistry meterRegistry, String outcome) {
+    return Timer.builder("mail.send")
+        .description("Time to hand one message to the SMTP server")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  private static final class PooledTransport {
+
+    private final Transport transport;
+    private int sent;
+    private long releasedAt;
+
+    private PooledTransport(Transport transport) {
+      this.transport = transport;
+      this.releasedAt = System.nanoTime();
+    }
+  }
+}
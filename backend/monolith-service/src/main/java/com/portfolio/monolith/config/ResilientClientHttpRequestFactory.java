@@ -0,0 +1,136 @@
+package com.portfolio.monolith.config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+/**
+ * Guards every call made through a RestTemplate with a circuit breaker and a bulkhead.
+ *
+ * <p>This sits below RestTemplate rather than in an interceptor so streamed request bodies are not
+ * buffered. Rejected calls fail with {@link UpstreamUnavailableException}, which RestTemplate
+ * surfaces as a {@code ResourceAccessException} just like a connect failure. The bulkhead permit
+ * is released as soon as status and headers arrive: it bounds calls waiting on the dependency, not
+ * body transfers, so a few slow downloads cannot starve short calls such as existence probes.
+ * Concurrent transfers are bounded by the connection pool instead.
+ */
+public class ResilientClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+  private final ClientHttpRequestFactory delegate;
+  private final CircuitBreaker circuitBreaker;
+  private final Bulkhead bulkhead;
+
+  public ResilientClientHttpRequestFactory(
+      ClientHttpRequestFactory delegate, CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+    this.delegate = delegate;
+    this.circuitBreaker = circuitBreaker;
+    this.bulkhead = bulkhead;
+  }
+
+  @Override
+  public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+    return new GuardedRequest(delegate.createRequest(uri, httpMethod));
+  }
+
+  private final class GuardedRequest implements ClientHttpRequest, StreamingHttpOutputMessage {
+
+    private final ClientHttpRequest request;
+
+    private GuardedRequest(ClientHttpRequest request) {
+      this.request = request;
+    }
+
+    @Override
+    public HttpMethod getMethod() {
+      return request.getMethod();
+    }
+
+    @Override
+    public URI getURI() {
+      return request.getURI();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return request.getHeaders();
+    }
+
+    @Override
+    public OutputStream getBody() throws IOException {
+      return request.getBody();
+    }
+
+    @Override
+    public void setBody(Body body) {
+      if (request instanceof StreamingHttpOutputMessage streaming) {
+        streaming.setBody(body);
+        return;
+      }
+      try {
+        body.writeTo(request.getBody());
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+
+    @Override
+    public ClientHttpResponse execute() throws IOException {
+      if (!bulkhead.tryAcquirePermission()) {
+        throw new UpstreamUnavailableException(bulkhead.getName() + " has too many calls");
+      }
+
+      try {
+        if (!circuitBreaker.tryAcquirePermission()) {
+          throw new UpstreamUnavailableException(circuitBreaker.getName() + " circuit is open");
+        }
+
+        long start = circuitBreaker.getCurrentTimestamp();
+        ClientHttpResponse response = null;
+        try {
+          response = request.execute();
+          HttpStatusCode status = response.getStatusCode();
+          long elapsed = circuitBreaker.getCurrentTimestamp() - start;
+          if (status.is5xxServerError()) {
+            circuitBreaker.onError(
+                elapsed,
+                circuitBreaker.getTimestampUnit(),
+                new UpstreamUnavailableException(
+                    circuitBreaker.getName() + " responded " + status.value()));
+          } else {
+            circuitBreaker.onSuccess(elapsed, circuitBreaker.getTimestampUnit());
+          }
+          return response;
+        } catch (IOException | RuntimeException ex) {
+          circuitBreaker.onError(
+              circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), ex);
+          if (response != null) {
+            response.close();
+          }
+          throw ex;
+        }
+      } finally {
+        bulkhead.onComplete();
+      }
+    }
+  }
+
+  /** Thrown instead of calling a dependency whose circuit is open or whose bulkhead is full. */
+  public static class UpstreamUnavailableException extends IOException {
+
+    public UpstreamUnavailableException(String message) {
+      super(message);
+    }
+  }
+}
@@ -70,13 +70,15 @@ public class SecurityConfig {
                     .permitAll()
                     .requestMatchers(HttpMethod.GET, "/experience/**", "/hobbies/**")
                     .permitAll()
-                    .requestMatchers(HttpMethod.GET, "/testimonials/**")
+                    .requestMatchers(HttpMethod.GET, "/testimonials/**", "/portfolio")
                     .permitAll()
                     .requestMatchers(HttpMethod.POST, "/testimonials", "/messages")
                     .permitAll()
                     .requestMatchers(
                         HttpMethod.GET, "/v1/files/resume/download", "/v1/files/resume/current")
                     .permitAll()
+                    .requestMatchers("/actuator/**")
+                    .hasRole("ADMIN")
                     .anyRequest()
                     .authenticated())
         .addFilterBefore(authFilter, UsernamePasswordAuthenticationFilter.class);
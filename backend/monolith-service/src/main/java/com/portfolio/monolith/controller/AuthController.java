@@ -21,6 +21,7 @@ import com.portfolio.monolith.dto.LoginRequest;
 import com.portfolio.monolith.dto.LoginResponse;
 import com.portfolio.monolith.exception.UnauthorizedException;
 import com.portfolio.monolith.security.AuthenticatedUser;
+import com.portfolio.monolith.security.SecurityUtils;
 import com.portfolio.monolith.service.SupabaseAuthService;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -68,6 +69,8 @@ public class AuthController {
 
   @PostMapping("/logout")
   public ResponseEntity<GenericResponse> logout(HttpServletRequest request) {
+    authService.logout(SecurityUtils.extractToken(request, authService.getAuthCookieName()));
+
     boolean secure = isSecureRequest(request);
     String sameSite = secure ? "None" : "Lax";
 
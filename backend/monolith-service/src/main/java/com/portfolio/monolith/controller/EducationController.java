@@ -1,7 +1,5 @@
 package com.portfolio.monolith.controller;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -13,9 +11,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.portfolio.monolith.dto.EducationDto;
+import com.portfolio.monolith.service.ContentSection;
 import com.portfolio.monolith.service.EducationDataService;
 
 import jakarta.validation.Valid;
@@ -26,24 +27,34 @@ import jakarta.validation.Valid;
 public class EducationController {
 
   private final EducationDataService service;
+  private final PublicContentResponder responder;
 
-  public EducationController(EducationDataService service) {
+  public EducationController(EducationDataService service, PublicContentResponder responder) {
     this.service = service;
+    this.responder = responder;
   }
 
   @GetMapping
-  public ResponseEntity<List<EducationDto>> getAllEducation() {
-    return ResponseEntity.ok(service.getAllEducation());
+  public ResponseEntity<byte[]> getAllEducation(
+      @RequestParam(value = "lang", required = false) String lang, WebRequest request) {
+    return responder.respond(
+        ContentSection.EDUCATION, "all", lang, request, service::getAllEducation);
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<EducationDto> getEducationById(@PathVariable Long id) {
-    return ResponseEntity.ok(service.getEducationById(id));
+  public ResponseEntity<byte[]> getEducationById(
+      @PathVariable Long id,
+      @RequestParam(value = "lang", required = false) String lang,
+      WebRequest request) {
+    return responder.respond(
+        ContentSection.EDUCATION, "id:" + id, lang, request, () -> service.getEducationById(id));
   }
 
   @GetMapping("/current")
-  public ResponseEntity<List<EducationDto>> getCurrentEducation() {
-    return ResponseEntity.ok(service.getCurrentEducation());
+  public ResponseEntity<byte[]> getCurrentEducation(
+      @RequestParam(value = "lang", required = false) String lang, WebRequest request) {
+    return responder.respond(
+        ContentSection.EDUCATION, "current", lang, request, service::getCurrentEducation);
   }
 
   @PreAuthorize("hasRole('ADMIN')")
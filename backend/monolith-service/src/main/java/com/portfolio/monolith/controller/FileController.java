@@ -1,10 +1,9 @@
 package com.portfolio.monolith.controller;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
-import org.springframework.http.ContentDisposition;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -20,15 +19,21 @@ import org.springframework.web.multipart.MultipartFile;
 import com.portfolio.monolith.dto.FileUploadResponse;
 import com.portfolio.monolith.service.SupabaseStorageService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
 @RestController
 @RequestMapping("/v1/files")
 @Validated
 public class FileController {
 
   private final SupabaseStorageService storageService;
+  private final ResumeResponseWriter responseWriter;
 
-  public FileController(SupabaseStorageService storageService) {
+  public FileController(
+      SupabaseStorageService storageService, ResumeResponseWriter responseWriter) {
     this.storageService = storageService;
+    this.responseWriter = responseWriter;
   }
 
   @PreAuthorize("hasRole('ADMIN')")
@@ -36,21 +41,20 @@ public class FileController {
   public ResponseEntity<FileUploadResponse> uploadResume(
       @RequestParam("file") MultipartFile file,
       @RequestParam(value = "language", defaultValue = "en") String language) {
-    String path = storageService.uploadResume(file, language);
-    return new ResponseEntity<>(new FileUploadResponse("Upload successful", path), HttpStatus.OK);
+    SupabaseStorageService.UploadResult result = storageService.uploadResume(file, language);
+    FileUploadResponse response = new FileUploadResponse("Upload successful", result.path());
+    response.size = result.size();
+    response.sha256 = result.sha256();
+    return new ResponseEntity<>(response, HttpStatus.OK);
   }
 
   @GetMapping("/resume/download")
-  public ResponseEntity<byte[]> downloadResume(
-      @RequestParam(value = "language", defaultValue = "en") String language) {
-    SupabaseStorageService.DownloadResult result = storageService.downloadResume(language);
-
-    HttpHeaders headers = new HttpHeaders();
-    headers.setContentType(MediaType.APPLICATION_PDF);
-    headers.setContentDisposition(
-        ContentDisposition.attachment().filename(result.fileName()).build());
-
-    return new ResponseEntity<>(result.bytes(), headers, HttpStatus.OK);
+  public void downloadResume(
+      @RequestParam(value = "language", defaultValue = "en") String language,
+      HttpServletRequest request,
+      HttpServletResponse response)
+      throws IOException {
+    storageService.downloadResume(language, responseWriter.sink(request, response));
   }
 
   @GetMapping("/resume/current")
@@ -59,12 +63,12 @@ public class FileController {
     SupabaseStorageService.ResumeMetadata metadata = storageService.getCurrentResume(language);
 
     Map<String, Object> response = new HashMap<>();
-    response.put("id", null);
+    response.put("id", metadata.id());
     response.put("fileName", metadata.fileName());
     response.put("filePath", metadata.path());
     response.put("fileSize", metadata.fileSize());
     response.put("contentType", metadata.contentType());
-    response.put("uploadedAt", null);
+    response.put("uploadedAt", metadata.uploadedAt());
 
     return ResponseEntity.ok(response);
   }
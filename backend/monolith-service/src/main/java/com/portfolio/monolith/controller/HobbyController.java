@@ -1,7 +1,5 @@
 package com.portfolio.monolith.controller;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -13,9 +11,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.portfolio.monolith.dto.HobbyDto;
+import com.portfolio.monolith.service.ContentSection;
 import com.portfolio.monolith.service.HobbyDataService;
 
 import jakarta.validation.Valid;
@@ -26,19 +27,26 @@ import jakarta.validation.Valid;
 public class HobbyController {
 
   private final HobbyDataService service;
+  private final PublicContentResponder responder;
 
-  public HobbyController(HobbyDataService service) {
+  public HobbyController(HobbyDataService service, PublicContentResponder responder) {
     this.service = service;
+    this.responder = responder;
   }
 
   @GetMapping
-  public ResponseEntity<List<HobbyDto>> getAllHobbies() {
-    return ResponseEntity.ok(service.getAllHobbies());
+  public ResponseEntity<byte[]> getAllHobbies(
+      @RequestParam(value = "lang", required = false) String lang, WebRequest request) {
+    return responder.respond(ContentSection.HOBBIES, "all", lang, request, service::getAllHobbies);
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<HobbyDto> getHobbyById(@PathVariable Long id) {
-    return ResponseEntity.ok(service.getHobbyById(id));
+  public ResponseEntity<byte[]> getHobbyById(
+      @PathVariable Long id,
+      @RequestParam(value = "lang", required = false) String lang,
+      WebRequest request) {
+    return responder.respond(
+        ContentSection.HOBBIES, "id:" + id, lang, request, () -> service.getHobbyById(id));
   }
 
   @PreAuthorize("hasRole('ADMIN')")
@@ -0,0 +1,45 @@
+package com.portfolio.monolith.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.portfolio.monolith.config.CacheNames;
+import com.portfolio.monolith.dto.PortfolioSnapshotDto;
+import com.portfolio.monolith.service.EncodedContentService;
+import com.portfolio.monolith.service.PortfolioSnapshotService;
+
+@RestController
+@RequestMapping("/portfolio")
+@Validated
+public class PortfolioController {
+
+  private final PortfolioSnapshotService service;
+  private final PublicContentResponder responder;
+
+  public PortfolioController(PortfolioSnapshotService service, PublicContentResponder responder) {
+    this.service = service;
+    this.responder = responder;
+  }
+
+  @GetMapping
+  public ResponseEntity<byte[]> getPortfolio(
+      @RequestParam(value = "lang", required = false) String lang, WebRequest request) {
+    PortfolioSnapshotDto snapshot = service.getSnapshot();
+    if (!snapshot.complete) {
+      // Partial results must not be revalidated later as if they were the full document.
+      return responder.respondUncached(snapshot, lang, request);
+    }
+
+    return responder.respond(
+        CacheNames.PORTFOLIO + "-" + snapshot.version,
+        EncodedContentService.COLLECTION_KEY,
+        lang,
+        request,
+        () -> snapshot);
+  }
+}
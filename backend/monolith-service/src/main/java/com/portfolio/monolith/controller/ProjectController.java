@@ -1,7 +1,5 @@
 package com.portfolio.monolith.controller;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -13,9 +11,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.portfolio.monolith.dto.ProjectDto;
+import com.portfolio.monolith.service.ContentSection;
 import com.portfolio.monolith.service.ProjectDataService;
 
 import jakarta.validation.Valid;
@@ -26,24 +27,40 @@ import jakarta.validation.Valid;
 public class ProjectController {
 
   private final ProjectDataService service;
+  private final PublicContentResponder responder;
 
-  public ProjectController(ProjectDataService service) {
+  public ProjectController(ProjectDataService service, PublicContentResponder responder) {
     this.service = service;
+    this.responder = responder;
   }
 
   @GetMapping
-  public ResponseEntity<List<ProjectDto>> getAllProjects() {
-    return ResponseEntity.ok(service.getAllProjects());
+  public ResponseEntity<byte[]> getAllProjects(
+      @RequestParam(value = "lang", required = false) String lang, WebRequest request) {
+    return responder.respond(
+        ContentSection.PROJECTS, "all", lang, request, service::getAllProjects);
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<ProjectDto> getProjectById(@PathVariable Long id) {
-    return ResponseEntity.ok(service.getProjectById(id));
+  public ResponseEntity<byte[]> getProjectById(
+      @PathVariable Long id,
+      @RequestParam(value = "lang", required = false) String lang,
+      WebRequest request) {
+    return responder.respond(
+        ContentSection.PROJECTS, "id:" + id, lang, request, () -> service.getProjectById(id));
   }
 
   @GetMapping("/status/{status}")
-  public ResponseEntity<List<ProjectDto>> getProjectsByStatus(@PathVariable String status) {
-    return ResponseEntity.ok(service.getProjectsByStatus(status));
+  public ResponseEntity<byte[]> getProjectsByStatus(
+      @PathVariable String status,
+      @RequestParam(value = "lang", required = false) String lang,
+      WebRequest request) {
+    return responder.respond(
+        ContentSection.PROJECTS,
+        "status:" + status,
+        lang,
+        request,
+        () -> service.getProjectsByStatus(status));
   }
 
   @PreAuthorize("hasRole('ADMIN')")
@@ -0,0 +1,129 @@
+package com.portfolio.monolith.controller;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import com.portfolio.monolith.service.ContentSection;
+import com.portfolio.monolith.service.ContentVersionService;
+import com.portfolio.monolith.service.EncodedContentService;
+import com.portfolio.monolith.service.EncodedContentService.EncodedContent;
+import com.portfolio.monolith.service.LocalizedContentService;
+
+/**
+ * Shared read path for the public GET endpoints: ETag/304 handling driven by the table version,
+ * and pre-encoded bodies (identity or gzip, optionally projected onto {@code lang}). The bodies
+ * are {@code byte[]}, so they are copied to the servlet output stream as is.
+ */
+@Component
+public class PublicContentResponder {
+
+  private static final String GZIP = "gzip";
+
+  private final ContentVersionService versions;
+  private final LocalizedContentService localizedContent;
+  private final EncodedContentService encodedContent;
+
+  public PublicContentResponder(
+      ContentVersionService versions,
+      LocalizedContentService localizedContent,
+      EncodedContentService encodedContent) {
+    this.versions = versions;
+    this.localizedContent = localizedContent;
+    this.encodedContent = encodedContent;
+  }
+
+  public ResponseEntity<byte[]> respond(
+      ContentSection section, String key, String lang, WebRequest request, Supplier<?> loader) {
+    String tag = section.cacheName() + "-" + versions.currentVersion(section);
+    return respond(tag, key, lang, request, loader);
+  }
+
+  public ResponseEntity<byte[]> respond(
+      String tag, String key, String lang, WebRequest request, Supplier<?> loader) {
+    String language = language(lang, request);
+    boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    // The validator names the negotiated variant (version, language, gzip-capable client), not
+    // the encoding that ends up on the wire: whether a body compresses is fixed by its content,
+    // so each tag still maps to exactly one byte sequence, and a 304 needs neither the rows nor
+    // the serializer.
+    String etag = etag(tag + (language == null ? "" : "-" + language), gzip);
+    if (request.checkNotModified(etag)) {
+      return null;
+    }
+    EncodedContent body = encodedContent.encoded(tag, key, language, loader);
+    boolean compressed = gzip && body.gzip() != null;
+    return build(language, compressed, CacheControl.noCache())
+        .eTag(etag)
+        .body(compressed ? body.gzip() : body.identity());
+  }
+
+  /** Encodes {@code value} for this request only, for documents that must not be cached. */
+  public ResponseEntity<byte[]> respondUncached(Object value, String lang, WebRequest request) {
+    String language = language(lang, request);
+    boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    EncodedContent body = encodedContent.encode(value, language);
+    boolean compressed = gzip && body.gzip() != null;
+    return build(language, compressed, CacheControl.noStore())
+        .body(compressed ? body.gzip() : body.identity());
+  }
+
+  private static String etag(String variant, boolean gzip) {
+    return "\"" + variant + (gzip ? "-gz" : "") + "\"";
+  }
+
+  private static ResponseEntity.BodyBuilder build(
+      String language, boolean compressed, CacheControl cacheControl) {
+    ResponseEntity.BodyBuilder builder =
+        ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .cacheControl(cacheControl)
+            .varyBy(HttpHeaders.ACCEPT_ENCODING);
+    if (compressed) {
+      builder.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+    }
+    if (language != null) {
+      builder.varyBy(HttpHeaders.ACCEPT_LANGUAGE).header(HttpHeaders.CONTENT_LANGUAGE, language);
+    }
+    return builder;
+  }
+
+  private String language(String lang, WebRequest request) {
+    if (lang == null) {
+      return null;
+    }
+    return localizedContent.resolveLanguage(lang, request.getHeader(HttpHeaders.ACCEPT_LANGUAGE));
+  }
+
+  static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null || acceptEncoding.isBlank()) {
+      return false;
+    }
+    for (String part : acceptEncoding.split(",")) {
+      String[] tokens = part.trim().split(";");
+      String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+      if (!coding.equals(GZIP) && !coding.equals("x-gzip") && !coding.equals("*")) {
+        continue;
+      }
+      double quality = 1.0;
+      for (int i = 1; i < tokens.length; i++) {
+        String param = tokens[i].trim();
+        if (param.startsWith("q=")) {
+          try {
+            quality = Double.parseDouble(param.substring(2));
+          } catch (NumberFormatException ex) {
+            quality = 0;
+          }
+        }
+      }
+      return quality > 0;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,268 @@
+package com.portfolio.monolith.controller;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import com.portfolio.monolith.service.ResumeFileCache;
+import com.portfolio.monolith.service.SupabaseStorageService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Writes resume downloads straight to the servlet output stream: small cached bodies from the
+ * shared in-memory copy, larger ones with {@link FileChannel#transferTo} from the disk cache, and
+ * cold misses as they arrive from storage. No per-request buffer grows with the file size.
+ *
+ * <p>{@code Range} requests (single and multiple ranges, honouring {@code If-Range}) are always
+ * answered from the local cache, so resuming a download never repeats the upstream fetch.
+ */
+@Component
+public class ResumeResponseWriter {
+
+  private static final int MAX_RANGES = 16;
+
+  private final ResumeFileCache fileCache;
+
+  public ResumeResponseWriter(ResumeFileCache fileCache) {
+    this.fileCache = fileCache;
+  }
+
+  public SupabaseStorageService.ResumeSink sink(
+      HttpServletRequest request, HttpServletResponse response) {
+    return new SupabaseStorageService.ResumeSink() {
+      @Override
+      public boolean requiresCachedCopy() {
+        return request.getHeader(HttpHeaders.RANGE) != null;
+      }
+
+      @Override
+      public boolean sendCached(ResumeFileCache.CachedResume entry, String fileName)
+          throws IOException {
+        return send(entry, fileName, request, response);
+      }
+
+      @Override
+      public OutputStream openUpstream(
+          String fileName, long size, String contentType, String lastModified)
+          throws IOException {
+        writeHeaders(response, fileName, lastModified, null);
+        response.setContentType(contentType);
+        if (size >= 0) {
+          response.setContentLengthLong(size);
+        }
+        return response.getOutputStream();
+      }
+    };
+  }
+
+  private boolean send(
+      ResumeFileCache.CachedResume entry,
+      String fileName,
+      HttpServletRequest request,
+      HttpServletResponse response)
+      throws IOException {
+    byte[] bytes = fileCache.cachedBytes(entry);
+    FileChannel channel = null;
+    if (bytes == null) {
+      try {
+        channel = FileChannel.open(entry.file(), StandardOpenOption.READ);
+      } catch (NoSuchFileException ex) {
+        fileCache.discard(entry);
+        return false;
+      }
+      if (channel.size() != entry.size()) {
+        // Truncated or replaced behind the cache's back; refetch instead of serving it.
+        channel.close();
+        fileCache.discard(entry);
+        return false;
+      }
+    }
+
+    try (FileChannel file = channel) {
+      Body body = new Body(bytes, file);
+      long size = bytes != null ? bytes.length : entry.size();
+      writeHeaders(response, fileName, entry.lastModified(), entry.etag());
+
+      try {
+        List<long[]> ranges = requestedRanges(request, entry, size);
+        if (ranges == null) {
+          response.setContentType(entry.contentType());
+          response.setContentLengthLong(size);
+          body.write(response.getOutputStream(), 0, size);
+        } else if (ranges.isEmpty()) {
+          response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+          response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+          response.setContentLength(0);
+        } else if (ranges.size() == 1) {
+          long[] range = ranges.get(0);
+          response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+          response.setContentType(entry.contentType());
+          response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(range, size));
+          response.setContentLengthLong(range[1] - range[0] + 1);
+          body.write(response.getOutputStream(), range[0], range[1] - range[0] + 1);
+        } else {
+          writeMultipart(response, body, ranges, size, entry.contentType());
+        }
+      } catch (EOFException ex) {
+        // The file shrank after it was opened; the response is cut short and the entry dropped.
+        fileCache.discard(entry);
+        throw ex;
+      }
+    }
+    return true;
+  }
+
+  private static void writeMultipart(
+      HttpServletResponse response, Body body, List<long[]> ranges, long size, String contentType)
+      throws IOException {
+    String boundary = UUID.randomUUID().toString().replace("-", "");
+    List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+    long length = 0;
+    for (long[] range : ranges) {
+      byte[] header =
+          ("\r\n--"
+                  + boundary
+                  + "\r\nContent-Type: "
+                  + contentType
+                  + "\r\nContent-Range: "
+                  + contentRange(range, size)
+                  + "\r\n\r\n")
+              .getBytes(StandardCharsets.US_ASCII);
+      partHeaders.add(header);
+      length += header.length + range[1] - range[0] + 1;
+    }
+    byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+    length += closing.length;
+
+    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+    response.setContentType("multipart/byteranges; boundary=" + boundary);
+    response.setContentLengthLong(length);
+    OutputStream out = response.getOutputStream();
+    for (int i = 0; i < ranges.size(); i++) {
+      long[] range = ranges.get(i);
+      out.write(partHeaders.get(i));
+      body.write(out, range[0], range[1] - range[0] + 1);
+    }
+    out.write(closing);
+  }
+
+  /**
+   * Returns null when the whole file should be sent (no {@code Range}, a stale {@code If-Range},
+   * or a header that cannot be parsed), an empty list when no range is satisfiable, and the
+   * inclusive {@code [first, last]} ranges otherwise.
+   */
+  static List<long[]> requestedRanges(
+      HttpServletRequest request, ResumeFileCache.CachedResume entry, long size) {
+    String header = request.getHeader(HttpHeaders.RANGE);
+    if (header == null || !header.startsWith("bytes=")) {
+      return null;
+    }
+    String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+    if (ifRange != null && !ifRangeMatches(ifRange.trim(), entry)) {
+      return null;
+    }
+
+    List<long[]> ranges = new ArrayList<>();
+    String[] specs = header.substring("bytes=".length()).split(",");
+    if (specs.length > MAX_RANGES) {
+      return null;
+    }
+    for (String spec : specs) {
+      String value = spec.trim();
+      int dash = value.indexOf('-');
+      if (dash < 0) {
+        return null;
+      }
+      try {
+        long first;
+        long last;
+        if (dash == 0) {
+          long suffix = Long.parseLong(value.substring(1));
+          if (suffix <= 0) {
+            continue;
+          }
+          first = Math.max(0, size - suffix);
+          last = size - 1;
+        } else {
+          first = Long.parseLong(value.substring(0, dash));
+          String end = value.substring(dash + 1);
+          last = end.isEmpty() ? Long.MAX_VALUE : Long.parseLong(end);
+          if (last < first) {
+            return null;
+          }
+          last = Math.min(last, size - 1);
+        }
+        if (first < size && first <= last) {
+          ranges.add(new long[] {first, last});
+        }
+      } catch (NumberFormatException ex) {
+        return null;
+      }
+    }
+    return ranges;
+  }
+
+  private static boolean ifRangeMatches(String ifRange, ResumeFileCache.CachedResume entry) {
+    if (ifRange.startsWith("\"")) {
+      // If-Range requires a strong comparison.
+      return ifRange.equals(entry.etag());
+    }
+    return ifRange.equals(entry.lastModified());
+  }
+
+  private static String contentRange(long[] range, long size) {
+    return "bytes " + range[0] + "-" + range[1] + "/" + size;
+  }
+
+  private static void writeHeaders(
+      HttpServletResponse response, String fileName, String lastModified, String etag) {
+    response.setHeader(
+        HttpHeaders.CONTENT_DISPOSITION,
+        ContentDisposition.attachment().filename(fileName).build().toString());
+    response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+    if (lastModified != null) {
+      response.setHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+    }
+    if (etag != null) {
+      response.setHeader(HttpHeaders.ETAG, etag);
+    }
+  }
+
+  /** A cached body held either in memory or in an open file channel. */
+  private record Body(byte[] bytes, FileChannel channel) {
+
+    void write(OutputStream out, long position, long length) throws IOException {
+      if (bytes != null) {
+        out.write(bytes, (int) position, (int) length);
+        return;
+      }
+      if (position + length > channel.size()) {
+        throw new EOFException("Cached file is shorter than " + (position + length) + " bytes");
+      }
+      WritableByteChannel target = Channels.newChannel(out);
+      long written = 0;
+      while (written < length) {
+        long transferred = channel.transferTo(position + written, length - written, target);
+        if (transferred <= 0) {
+          throw new EOFException("Cached file ended at " + (position + written) + " bytes");
+        }
+        written += transferred;
+      }
+    }
+  }
+}
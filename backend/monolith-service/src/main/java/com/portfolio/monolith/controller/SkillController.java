@@ -1,7 +1,5 @@
 package com.portfolio.monolith.controller;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -13,9 +11,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.portfolio.monolith.dto.SkillDto;
+import com.portfolio.monolith.service.ContentSection;
 import com.portfolio.monolith.service.SkillDataService;
 
 import jakarta.validation.Valid;
@@ -26,24 +27,39 @@ import jakarta.validation.Valid;
 public class SkillController {
 
   private final SkillDataService service;
+  private final PublicContentResponder responder;
 
-  public SkillController(SkillDataService service) {
+  public SkillController(SkillDataService service, PublicContentResponder responder) {
     this.service = service;
+    this.responder = responder;
   }
 
   @GetMapping
-  public ResponseEntity<List<SkillDto>> getAllSkills() {
-    return ResponseEntity.ok(service.getAllSkills());
+  public ResponseEntity<byte[]> getAllSkills(
+      @RequestParam(value = "lang", required = false) String lang, WebRequest request) {
+    return responder.respond(ContentSection.SKILLS, "all", lang, request, service::getAllSkills);
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<SkillDto> getSkillById(@PathVariable Long id) {
-    return ResponseEntity.ok(service.getSkillById(id));
+  public ResponseEntity<byte[]> getSkillById(
+      @PathVariable Long id,
+      @RequestParam(value = "lang", required = false) String lang,
+      WebRequest request) {
+    return responder.respond(
+        ContentSection.SKILLS, "id:" + id, lang, request, () -> service.getSkillById(id));
   }
 
   @GetMapping("/category/{category}")
-  public ResponseEntity<List<SkillDto>> getSkillsByCategory(@PathVariable String category) {
-    return ResponseEntity.ok(service.getSkillsByCategory(category));
+  public ResponseEntity<byte[]> getSkillsByCategory(
+      @PathVariable String category,
+      @RequestParam(value = "lang", required = false) String lang,
+      WebRequest request) {
+    return responder.respond(
+        ContentSection.SKILLS,
+        "category:" + category,
+        lang,
+        request,
+        () -> service.getSkillsByCategory(category));
   }
 
   @PreAuthorize("hasRole('ADMIN')")
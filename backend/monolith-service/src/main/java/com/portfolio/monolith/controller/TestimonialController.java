@@ -14,12 +14,15 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.portfolio.monolith.dto.TestimonialDto;
 import com.portfolio.monolith.dto.TestimonialStatus;
 import com.portfolio.monolith.exception.ForbiddenException;
 import com.portfolio.monolith.security.AuthenticatedUser;
+import com.portfolio.monolith.service.ContentSection;
 import com.portfolio.monolith.service.TestimonialDataService;
 
 import jakarta.validation.Valid;
@@ -30,14 +33,18 @@ import jakarta.validation.Valid;
 public class TestimonialController {
 
   private final TestimonialDataService service;
+  private final PublicContentResponder responder;
 
-  public TestimonialController(TestimonialDataService service) {
+  public TestimonialController(TestimonialDataService service, PublicContentResponder responder) {
     this.service = service;
+    this.responder = responder;
   }
 
   @GetMapping
-  public ResponseEntity<List<TestimonialDto>> getApprovedTestimonials() {
-    return ResponseEntity.ok(service.getApprovedTestimonials());
+  public ResponseEntity<byte[]> getApprovedTestimonials(
+      @RequestParam(value = "lang", required = false) String lang, WebRequest request) {
+    return responder.respond(
+        ContentSection.TESTIMONIALS, "all", lang, request, service::getApprovedTestimonials);
   }
 
   @PreAuthorize("hasRole('ADMIN')")
@@ -47,13 +54,18 @@ public class TestimonialController {
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<TestimonialDto> getTestimonialById(
-      @PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser user) {
+  public ResponseEntity<byte[]> getTestimonialById(
+      @PathVariable Long id,
+      @RequestParam(value = "lang", required = false) String lang,
+      @AuthenticationPrincipal AuthenticatedUser user,
+      WebRequest request) {
     TestimonialDto testimonial = service.getTestimonialById(id);
     if (testimonial.status != TestimonialStatus.APPROVED && (user == null || !user.isAdmin())) {
       throw new ForbiddenException("Access denied");
     }
-    return ResponseEntity.ok(testimonial);
+    // Checked after the visibility rule so a guessed ETag cannot reveal pending testimonials.
+    return responder.respond(
+        ContentSection.TESTIMONIALS, "id:" + id, lang, request, () -> testimonial);
   }
 
   @PostMapping
@@ -1,7 +1,5 @@
 package com.portfolio.monolith.controller;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -13,9 +11,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.portfolio.monolith.dto.WorkExperienceDto;
+import com.portfolio.monolith.service.ContentSection;
 import com.portfolio.monolith.service.ExperienceDataService;
 
 import jakarta.validation.Valid;
@@ -26,24 +27,34 @@ import jakarta.validation.Valid;
 public class WorkExperienceController {
 
   private final ExperienceDataService service;
+  private final PublicContentResponder responder;
 
-  public WorkExperienceController(ExperienceDataService service) {
+  public WorkExperienceController(ExperienceDataService service, PublicContentResponder responder) {
     this.service = service;
+    this.responder = responder;
   }
 
   @GetMapping
-  public ResponseEntity<List<WorkExperienceDto>> getAllExperiences() {
-    return ResponseEntity.ok(service.getAllExperiences());
+  public ResponseEntity<byte[]> getAllExperiences(
+      @RequestParam(value = "lang", required = false) String lang, WebRequest request) {
+    return responder.respond(
+        ContentSection.EXPERIENCE, "all", lang, request, service::getAllExperiences);
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<WorkExperienceDto> getExperienceById(@PathVariable Long id) {
-    return ResponseEntity.ok(service.getExperienceById(id));
+  public ResponseEntity<byte[]> getExperienceById(
+      @PathVariable Long id,
+      @RequestParam(value = "lang", required = false) String lang,
+      WebRequest request) {
+    return responder.respond(
+        ContentSection.EXPERIENCE, "id:" + id, lang, request, () -> service.getExperienceById(id));
   }
 
   @GetMapping("/current")
-  public ResponseEntity<List<WorkExperienceDto>> getCurrentExperiences() {
-    return ResponseEntity.ok(service.getCurrentExperiences());
+  public ResponseEntity<byte[]> getCurrentExperiences(
+      @RequestParam(value = "lang", required = false) String lang, WebRequest request) {
+    return responder.respond(
+        ContentSection.EXPERIENCE, "current", lang, request, service::getCurrentExperiences);
   }
 
   @PreAuthorize("hasRole('ADMIN')")
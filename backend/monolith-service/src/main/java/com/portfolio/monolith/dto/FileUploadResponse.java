@@ -3,6 +3,8 @@ package com.portfolio.monolith.dto;
 public class FileUploadResponse {
   public String message;
   public String path;
+  public Long size;
+  public String sha256;
 
   public FileUploadResponse() {}
 
@@ -0,0 +1,21 @@
+package com.portfolio.monolith.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public class PortfolioSnapshotDto {
+  public List<ProjectDto> projects;
+  public List<SkillDto> skills;
+  public List<EducationDto> education;
+  public List<WorkExperienceDto> experience;
+  public List<HobbyDto> hobbies;
+  public List<TestimonialDto> testimonials;
+  public List<String> unavailableSections;
+  public LocalDateTime generatedAt;
+
+  // Cache bookkeeping for the server, not part of the response.
+  @JsonIgnore public boolean complete;
+  @JsonIgnore public String version;
+}
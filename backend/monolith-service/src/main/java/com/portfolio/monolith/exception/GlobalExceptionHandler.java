@@ -10,6 +10,8 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -34,6 +36,17 @@ public class GlobalExceptionHandler {
     return build(HttpStatus.BAD_REQUEST, message, errors);
   }
 
+  @ExceptionHandler(MaxUploadSizeExceededException.class)
+  public ResponseEntity<ErrorResponse> handleMaxUploadSize(MaxUploadSizeExceededException ex) {
+    return build(HttpStatus.PAYLOAD_TOO_LARGE, "File is too large", null);
+  }
+
+  @ExceptionHandler(ResourceAccessException.class)
+  public ResponseEntity<ErrorResponse> handleUpstreamUnavailable(ResourceAccessException ex) {
+    return build(
+        HttpStatus.SERVICE_UNAVAILABLE, "Upstream service is temporarily unavailable", null);
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ErrorResponse> handleUnexpected(Exception ex) {
     return build(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred", null);
@@ -3,6 +3,9 @@ package com.portfolio.monolith.security;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+
 public final class SecurityUtils {
 
   private SecurityUtils() {}
@@ -19,4 +22,25 @@ public final class SecurityUtils {
     AuthenticatedUser user = getCurrentUser();
     return user != null && user.isAdmin();
   }
+
+  /** Access token from the {@code Authorization: Bearer} header, else from the auth cookie. */
+  public static String extractToken(HttpServletRequest request, String cookieName) {
+    String header = request.getHeader("Authorization");
+    if (header != null && header.startsWith("Bearer ")) {
+      return header.substring(7);
+    }
+
+    Cookie[] cookies = request.getCookies();
+    if (cookies == null) {
+      return null;
+    }
+
+    for (Cookie cookie : cookies) {
+      if (cookieName.equals(cookie.getName())) {
+        return cookie.getValue();
+      }
+    }
+
+    return null;
+  }
 }
@@ -1,19 +1,22 @@
 package com.portfolio.monolith.security;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.portfolio.monolith.service.SupabaseAuthService;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -26,52 +29,51 @@ public class SupabaseAuthenticationFilter extends OncePerRequestFilter {
     this.authService = authService;
   }
 
+  /**
+   * Registers the token as a deferred security context instead of validating it up front. The
+   * token is only resolved when something reads the {@code Authentication}: an authorization rule
+   * other than {@code permitAll}, {@code @PreAuthorize}, or a handler taking the principal. Public
+   * GETs made with an admin cookie therefore never pay for token validation.
+   */
   @Override
   protected void doFilterInternal(
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
       throws ServletException, IOException {
 
-    if (SecurityContextHolder.getContext().getAuthentication() == null) {
-      String token = extractToken(request);
-      if (token != null && !token.isBlank()) {
-        try {
-          AuthenticatedUser user = authService.getUserFromToken(token);
-          UsernamePasswordAuthenticationToken authentication =
-              new UsernamePasswordAuthenticationToken(
-                  user,
-                  null,
-                  user.isAdmin()
-                      ? java.util.List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))
-                      : java.util.List.of(new SimpleGrantedAuthority("ROLE_USER")));
-          authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-          SecurityContextHolder.getContext().setAuthentication(authentication);
-        } catch (Exception ignored) {
-          SecurityContextHolder.clearContext();
-        }
-      }
+    String token = SecurityUtils.extractToken(request, authService.getAuthCookieName());
+    if (token != null && !token.isBlank()) {
+      SecurityContextHolderStrategy strategy = SecurityContextHolder.getContextHolderStrategy();
+      Supplier<SecurityContext> previous = strategy.getDeferredContext();
+      strategy.setDeferredContext(
+          SingletonSupplier.of(() -> resolve(previous.get(), token, request, strategy)));
     }
 
     filterChain.doFilter(request, response);
   }
 
-  private String extractToken(HttpServletRequest request) {
-    String header = request.getHeader("Authorization");
-    if (header != null && header.startsWith("Bearer ")) {
-      return header.substring(7);
+  private SecurityContext resolve(
+      SecurityContext current,
+      String token,
+      HttpServletRequest request,
+      SecurityContextHolderStrategy strategy) {
+    if (current.getAuthentication() != null) {
+      return current;
     }
-
-    String cookieName = authService.getAuthCookieName();
-    Cookie[] cookies = request.getCookies();
-    if (cookies == null) {
-      return null;
-    }
-
-    for (Cookie cookie : cookies) {
-      if (cookieName.equals(cookie.getName())) {
-        return cookie.getValue();
-      }
+    SecurityContext context = strategy.createEmptyContext();
+    try {
+      AuthenticatedUser user = authService.getUserFromToken(token);
+      UsernamePasswordAuthenticationToken authentication =
+          new UsernamePasswordAuthenticationToken(
+              user,
+              null,
+              user.isAdmin()
+                  ? java.util.List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))
+                  : java.util.List.of(new SimpleGrantedAuthority("ROLE_USER")));
+      authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+      context.setAuthentication(authentication);
+    } catch (Exception ignored) {
+      // Invalid or unverifiable token: continue as anonymous.
     }
-
-    return null;
+    return context;
   }
 }
@@ -0,0 +1,98 @@
+package com.portfolio.monolith.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * In-memory copy of {@code admin_users}. The set is immutable and replaced as a whole, so
+ * lookups need no locking and never touch the database. It is loaded once at startup, and the
+ * application refuses to start if that load fails rather than serve requests with nobody marked
+ * as admin. Afterwards it is reloaded on a schedule and whenever the table's NOTIFY trigger fires;
+ * if a reload fails the last set that loaded is kept, so a database blip does not demote admins.
+ */
+@Service
+public class AdminUserDirectory {
+
+  private static final Logger log = LoggerFactory.getLogger(AdminUserDirectory.class);
+
+  private final NamedParameterJdbcTemplate jdbc;
+  private final AuthTokenCache tokenCache;
+
+  private volatile Set<String> adminIds;
+
+  public AdminUserDirectory(NamedParameterJdbcTemplate jdbc, AuthTokenCache tokenCache) {
+    this.jdbc = jdbc;
+    this.tokenCache = tokenCache;
+  }
+
+  public boolean isAdmin(String userId) {
+    if (userId == null || userId.isBlank()) {
+      return false;
+    }
+    Set<String> current = adminIds;
+    return current != null && current.contains(userId.trim().toLowerCase(Locale.ROOT));
+  }
+
+  @PostConstruct
+  public void load() {
+    refresh();
+    if (adminIds == null) {
+      throw new IllegalStateException("Could not load admin_users at startup");
+    }
+  }
+
+  @EventListener
+  public void onAdminUsersChanged(AdminUsersChangedEvent event) {
+    refresh();
+  }
+
+  @Scheduled(
+      fixedDelayString = "${app.auth.admin-users.refresh-interval:PT5M}",
+      initialDelayString = "${app.auth.admin-users.refresh-interval:PT5M}")
+  public void scheduledRefresh() {
+    refresh();
+  }
+
+  public synchronized void refresh() {
+    List<String> rows;
+    try {
+      rows =
+          jdbc.queryForList(
+              "select user_id::text from public.admin_users",
+              new MapSqlParameterSource(),
+              String.class);
+    } catch (DataAccessException ex) {
+      log.warn(
+          "Failed to reload admin_users, keeping {} known admins: {}",
+          adminIds == null ? 0 : adminIds.size(),
+          ex.getMessage());
+      return;
+    }
+
+    Set<String> loaded = new HashSet<>();
+    for (String row : rows) {
+      loaded.add(row.toLowerCase(Locale.ROOT));
+    }
+    Set<String> previous = adminIds;
+    adminIds = Set.copyOf(loaded);
+    if (!adminIds.equals(previous)) {
+      // Cached principals carry the admin flag computed at validation time, including any
+      // validated before this directory first loaded.
+      tokenCache.invalidateAll();
+      log.info("Admin users changed, {} admins loaded", adminIds.size());
+    }
+  }
+}
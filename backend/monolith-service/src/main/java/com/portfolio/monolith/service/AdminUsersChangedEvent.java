@@ -0,0 +1,4 @@
+package com.portfolio.monolith.service;
+
+/** Rows in {@code admin_users} changed, possibly through another replica or the SQL editor. */
+public record AdminUsersChangedEvent() {}
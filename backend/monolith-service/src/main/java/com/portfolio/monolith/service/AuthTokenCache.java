@@ -0,0 +1,169 @@
+package com.portfolio.monolith.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.portfolio.monolith.security.AuthenticatedUser;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Caches successful access-token validations, keyed by the SHA-256 of the token so raw tokens
+ * are never kept in memory. An entry lives for {@code ttl} but never past the token's own
+ * {@code exp} claim. Hit/miss counters are published as the {@code auth-tokens} cache metrics,
+ * and misses that joined an identical in-flight validation as
+ * {@code auth.token.validations.coalesced}.
+ */
+@Service
+public class AuthTokenCache {
+
+  private final Cache<String, CachedToken> cache;
+  private final ObjectMapper objectMapper;
+  private final Map<String, CompletableFuture<AuthenticatedUser>> validations =
+      new ConcurrentHashMap<>();
+  private final Counter coalesced;
+
+  public AuthTokenCache(
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${app.auth.token-cache.ttl:5m}") Duration ttl,
+      @Value("${app.auth.token-cache.max-size:10000}") long maxSize) {
+    this.objectMapper = objectMapper;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(
+                new Expiry<String, CachedToken>() {
+                  @Override
+                  public long expireAfterCreate(String key, CachedToken value, long currentTime) {
+                    if (value.expiresAt() == null) {
+                      return ttl.toNanos();
+                    }
+                    Duration remaining = Duration.between(Instant.now(), value.expiresAt());
+                    return Math.max(0, Math.min(ttl.toNanos(), remaining.toNanos()));
+                  }
+
+                  @Override
+                  public long expireAfterUpdate(
+                      String key, CachedToken value, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                  }
+
+                  @Override
+                  public long expireAfterRead(
+                      String key, CachedToken value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                  }
+                })
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth-tokens");
+    this.coalesced =
+        Counter.builder("auth.token.validations.coalesced")
+            .description("Token validations that joined an identical in-flight validation")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Returns the cached user for {@code token}, calling {@code validator} on a miss. Concurrent
+   * misses for the same token share one validation and its result or failure.
+   */
+  public AuthenticatedUser get(String token, Function<String, AuthenticatedUser> validator) {
+    String key = hash(token);
+    CachedToken cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return cached.user();
+    }
+
+    CompletableFuture<AuthenticatedUser> validation = new CompletableFuture<>();
+    CompletableFuture<AuthenticatedUser> inFlight = validations.putIfAbsent(key, validation);
+    if (inFlight != null) {
+      coalesced.increment();
+      return await(inFlight);
+    }
+
+    try {
+      AuthenticatedUser user = validator.apply(token);
+      cache.put(key, new CachedToken(user, expiresAt(token)));
+      validation.complete(user);
+      return user;
+    } catch (Throwable ex) {
+      // Any failure, Errors included, must release the callers waiting on this validation.
+      validation.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      validations.remove(key, validation);
+    }
+  }
+
+  public void invalidate(String token) {
+    cache.invalidate(hash(token));
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  private static AuthenticatedUser await(CompletableFuture<AuthenticatedUser> validation) {
+    try {
+      return validation.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (ex.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw ex;
+    }
+  }
+
+  /**
+   * Reads {@code exp} without checking the signature; it is only used to bound the lifetime of an
+   * entry whose token has already been validated.
+   */
+  private Instant expiresAt(String token) {
+    String[] parts = token.split("\\.");
+    if (parts.length < 2) {
+      return null;
+    }
+    try {
+      JsonNode claims = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1]));
+      long exp = claims.path("exp").asLong(0);
+      return exp > 0 ? Instant.ofEpochSecond(exp) : null;
+    } catch (Exception ex) {
+      return null;
+    }
+  }
+
+  private static String hash(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 is not available", ex);
+    }
+  }
+
+  private record CachedToken(AuthenticatedUser user, Instant expiresAt) {}
+}
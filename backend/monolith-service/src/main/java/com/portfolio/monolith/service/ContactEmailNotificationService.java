@@ -1,7 +1,7 @@
 package com.portfolio.monolith.service;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
@@ -12,8 +12,6 @@ import com.portfolio.monolith.dto.MessageDto;
 @Service
 public class ContactEmailNotificationService {
 
-  private static final Logger log = LoggerFactory.getLogger(ContactEmailNotificationService.class);
-
   private final JavaMailSender mailSender;
 
   @Value("${app.contact.email.enabled:true}")
@@ -32,30 +30,62 @@ public class ContactEmailNotificationService {
     this.mailSender = mailSender;
   }
 
-  public void sendNewMessageNotification(MessageDto message) {
-    if (!enabled) {
-      return;
-    }
-    if (isBlank(toEmail) || isBlank(fromEmail)) {
-      log.warn("Contact email notification is enabled but app.contact.email.to/from is missing.");
-      return;
-    }
+  /** Whether notifications are enabled and have both a recipient and a sender address. */
+  public boolean isConfigured() {
+    return enabled && !isBlank(toEmail) && !isBlank(fromEmail);
+  }
 
-    SimpleMailMessage email = new SimpleMailMessage();
-    email.setTo(toEmail);
-    email.setFrom(fromEmail);
+  /** Throws {@link IllegalStateException} when notifications are not {@link #isConfigured}. */
+  public void sendNewMessageNotification(MessageDto message) {
+    SimpleMailMessage email = newEmail();
     if (replyToSender && !isBlank(message.senderEmail)) {
       email.setReplyTo(message.senderEmail);
     }
     email.setSubject("[Portfolio] New contact message: " + safe(message.subject));
-    email.setText(buildBody(message));
+
+    StringBuilder sb = new StringBuilder();
+    sb.append("You received a new message from your portfolio contact form.\n\n");
+    appendMessage(sb, message);
+    email.setText(sb.toString());
 
     mailSender.send(email);
   }
 
-  private String buildBody(MessageDto message) {
+  /** Sends several messages as one email; there is no single sender to reply to. */
+  public void sendDigestNotification(List<MessageDto> messages) {
+    if (messages.isEmpty()) {
+      return;
+    }
+    SimpleMailMessage email = newEmail();
+    email.setSubject("[Portfolio] " + messages.size() + " new contact messages");
+
     StringBuilder sb = new StringBuilder();
-    sb.append("You received a new message from your portfolio contact form.\n\n");
+    sb.append("You received ")
+        .append(messages.size())
+        .append(" new messages from your portfolio contact form.\n");
+    for (MessageDto message : messages) {
+      sb.append("\n----------------------------------------\n\n");
+      appendMessage(sb, message);
+    }
+    email.setText(sb.toString());
+
+    mailSender.send(email);
+  }
+
+  private SimpleMailMessage newEmail() {
+    if (!isConfigured()) {
+      // Never report a notification as sent when nothing went out.
+      throw new IllegalStateException(
+          "Contact email notifications are disabled or app.contact.email.to/from is missing");
+    }
+
+    SimpleMailMessage email = new SimpleMailMessage();
+    email.setTo(toEmail);
+    email.setFrom(fromEmail);
+    return email;
+  }
+
+  private void appendMessage(StringBuilder sb, MessageDto message) {
     sb.append("Name: ").append(safe(message.senderName)).append('\n');
     sb.append("Email: ").append(safe(message.senderEmail)).append('\n');
     sb.append("Subject: ").append(safe(message.subject)).append("\n\n");
@@ -66,7 +96,6 @@ public class ContactEmailNotificationService {
     if (message.id != null) {
       sb.append("Message ID: ").append(message.id).append('\n');
     }
-    return sb.toString();
   }
 
   private static String safe(String value) {
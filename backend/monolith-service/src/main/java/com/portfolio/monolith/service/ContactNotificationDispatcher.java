@@ -0,0 +1,244 @@
+package com.portfolio.monolith.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.portfolio.monolith.dto.MessageDto;
+import com.portfolio.monolith.exception.NotFoundException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Drains {@link ContactNotificationOutbox} in batches off the request path. Failed sends are
+ * retried with exponential backoff until {@code max-attempts}, then left as {@code DEAD}. While
+ * notifications are not configured (no {@code to}/{@code from} address), rows are left unclaimed
+ * and go out once the configuration is fixed.
+ *
+ * <p>In {@code digest} mode, pending messages are held back and sent together as one email once
+ * {@code digest.window} has passed since the oldest one or {@code digest.max-messages} are
+ * waiting. The first message after {@code digest.quiet-period} without a send goes out right away.
+ * The quiet period is tracked per replica.
+ *
+ * <p>Publishes {@code contact.notification.outbox.depth} (pending and dead rows, refreshed every
+ * poll), {@code contact.notification.delivery.lag} (message creation to delivery) and
+ * {@code contact.notification.deliveries} tagged by outcome.
+ */
+@Service
+public class ContactNotificationDispatcher {
+
+  private static final Logger log = LoggerFactory.getLogger(ContactNotificationDispatcher.class);
+
+  private final ContactNotificationOutbox outbox;
+  private final MessageDataService messageDataService;
+  private final ContactEmailNotificationService notificationService;
+  private final int batchSize;
+  private final int maxAttempts;
+  private final Duration lease;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+  private final boolean digestMode;
+  private final Duration digestWindow;
+  private final int digestMaxMessages;
+  private final Duration digestQuietPeriod;
+
+  private volatile Instant lastSentAt;
+  private volatile boolean unconfiguredWarned;
+
+  private final AtomicLong pending = new AtomicLong();
+  private final AtomicLong dead = new AtomicLong();
+  private final Timer deliveryLag;
+  private final Counter sent;
+  private final Counter retried;
+  private final Counter deadLettered;
+
+  public ContactNotificationDispatcher(
+      ContactNotificationOutbox outbox,
+      MessageDataService messageDataService,
+      ContactEmailNotificationService notificationService,
+      MeterRegistry meterRegistry,
+      @Value("${app.contact.email.outbox.batch-size:20}") int batchSize,
+      @Value("${app.contact.email.outbox.max-attempts:8}") int maxAttempts,
+      @Value("${app.contact.email.outbox.lease:2m}") Duration lease,
+      @Value("${app.contact.email.outbox.initial-backoff:30s}") Duration initialBackoff,
+      @Value("${app.contact.email.outbox.max-backoff:1h}") Duration maxBackoff,
+      @Value("${app.contact.email.mode:immediate}") String mode,
+      @Value("${app.contact.email.digest.window:10m}") Duration digestWindow,
+      @Value("${app.contact.email.digest.max-messages:20}") int digestMaxMessages,
+      @Value("${app.contact.email.digest.quiet-period:30m}") Duration digestQuietPeriod) {
+    this.outbox = outbox;
+    this.messageDataService = messageDataService;
+    this.notificationService = notificationService;
+    this.batchSize = Math.max(1, batchSize);
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.lease = lease;
+    this.initialBackoff = initialBackoff;
+    this.maxBackoff = maxBackoff;
+    this.digestMode = "digest".equalsIgnoreCase(mode);
+    this.digestWindow = digestWindow;
+    this.digestMaxMessages = Math.max(1, digestMaxMessages);
+    this.digestQuietPeriod = digestQuietPeriod;
+
+    Gauge.builder("contact.notification.outbox.depth", pending, AtomicLong::get)
+        .tag("status", "pending")
+        .register(meterRegistry);
+    Gauge.builder("contact.notification.outbox.depth", dead, AtomicLong::get)
+        .tag("status", "dead")
+        .register(meterRegistry);
+    this.deliveryLag =
+        Timer.builder("contact.notification.delivery.lag")
+            .description("Time from message creation to notification delivery")
+            .register(meterRegistry);
+    this.sent = deliveries(meterRegistry, "sent");
+    this.retried = deliveries(meterRegistry, "retry");
+    this.deadLettered = deliveries(meterRegistry, "dead");
+  }
+
+  @Scheduled(
+      fixedDelayString = "${app.contact.email.outbox.poll-interval:PT5S}",
+      initialDelayString = "${app.contact.email.outbox.poll-interval:PT5S}")
+  public void dispatch() {
+    try {
+      if (notificationService.isConfigured()) {
+        unconfiguredWarned = false;
+        if (digestMode) {
+          dispatchDigest();
+        } else {
+          dispatchEach();
+        }
+      } else if (!unconfiguredWarned) {
+        // Rows are not claimed: that would spend their attempts on sends that cannot succeed.
+        unconfiguredWarned = true;
+        log.warn("Contact email notifications are not configured; leaving the outbox pending");
+      }
+
+      pending.set(outbox.countByStatus("PENDING"));
+      dead.set(outbox.countByStatus("DEAD"));
+    } catch (DataAccessException ex) {
+      log.warn("Contact notification outbox unavailable: {}", ex.getMessage());
+    }
+  }
+
+  private void dispatchEach() {
+    List<ContactNotificationOutbox.Entry> batch;
+    do {
+      batch = outbox.lease(batchSize, lease);
+      for (ContactNotificationOutbox.Entry entry : batch) {
+        deliver(List.of(entry));
+      }
+    } while (batch.size() == batchSize);
+  }
+
+  private void dispatchDigest() {
+    ContactNotificationOutbox.Backlog backlog = outbox.dueBacklog();
+    while (backlog.due() > 0) {
+      Instant now = Instant.now();
+      Instant last = lastSentAt;
+      boolean quiet = last == null || !now.isBefore(last.plus(digestQuietPeriod));
+      boolean full = backlog.due() >= digestMaxMessages;
+      boolean windowElapsed =
+          backlog.oldest() != null && !now.isBefore(backlog.oldest().plus(digestWindow));
+      if (!quiet && !full && !windowElapsed) {
+        return;
+      }
+
+      List<ContactNotificationOutbox.Entry> batch = outbox.lease(digestMaxMessages, lease);
+      if (batch.isEmpty()) {
+        return;
+      }
+      deliver(batch);
+      backlog = outbox.dueBacklog();
+    }
+  }
+
+  /** Sends the entries as one email: a plain notification for one, a digest for several. */
+  private void deliver(List<ContactNotificationOutbox.Entry> entries) {
+    List<ContactNotificationOutbox.Entry> live = new ArrayList<>();
+    List<MessageDto> messages = new ArrayList<>();
+    for (ContactNotificationOutbox.Entry entry : entries) {
+      try {
+        messages.add(messageDataService.getMessageById(entry.messageId()));
+        live.add(entry);
+      } catch (NotFoundException ex) {
+        // The message was deleted before its notification went out.
+        outbox.markDelivered(entry.id());
+      }
+    }
+    if (messages.isEmpty()) {
+      return;
+    }
+
+    try {
+      if (messages.size() == 1) {
+        notificationService.sendNewMessageNotification(messages.get(0));
+      } else {
+        notificationService.sendDigestNotification(messages);
+      }
+    } catch (RuntimeException ex) {
+      for (ContactNotificationOutbox.Entry entry : live) {
+        fail(entry, ex);
+      }
+      return;
+    }
+
+    Instant now = Instant.now();
+    lastSentAt = now;
+    for (ContactNotificationOutbox.Entry entry : live) {
+      outbox.markDelivered(entry.id());
+      sent.increment();
+      if (entry.createdAt() != null) {
+        deliveryLag.record(
+            Math.max(0, Duration.between(entry.createdAt(), now).toMillis()),
+            TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  private void fail(ContactNotificationOutbox.Entry entry, RuntimeException ex) {
+    String error = ex.getClass().getSimpleName() + ": " + ex.getMessage();
+    if (entry.attempts() >= maxAttempts) {
+      outbox.markDead(entry.id(), error);
+      deadLettered.increment();
+      log.error(
+          "Giving up on contact notification for message id={} after {} attempts",
+          entry.messageId(),
+          entry.attempts(),
+          ex);
+      return;
+    }
+
+    Duration delay = backoff(entry.attempts());
+    outbox.scheduleRetry(entry.id(), delay, error);
+    retried.increment();
+    log.warn(
+        "Contact notification for message id={} failed (attempt {}), retrying in {}: {}",
+        entry.messageId(),
+        entry.attempts(),
+        delay,
+        error);
+  }
+
+  private Duration backoff(int attempts) {
+    Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+    return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+  }
+
+  private static Counter deliveries(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder("contact.notification.deliveries")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,136 @@
+package com.portfolio.monolith.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Data access for {@code contact_notification_outbox}. Rows are enqueued inside the transaction
+ * that inserts the message, leased by the dispatcher with {@code for update skip locked} (so
+ * several replicas can drain the table without double-sending), and deleted once delivered. Rows
+ * that run out of attempts stay behind as {@code DEAD} for inspection.
+ */
+@Service
+public class ContactNotificationOutbox {
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  @Value("${app.contact.email.enabled:true}")
+  private boolean enabled;
+
+  public ContactNotificationOutbox(NamedParameterJdbcTemplate jdbc) {
+    this.jdbc = jdbc;
+  }
+
+  /** Must be called inside the transaction that created the message. */
+  public void enqueue(long messageId) {
+    if (!enabled) {
+      return;
+    }
+    String sql = "insert into public.contact_notification_outbox (message_id) values (:messageId)";
+    jdbc.update(sql, new MapSqlParameterSource("messageId", messageId));
+  }
+
+  /**
+   * Claims up to {@code limit} due rows for {@code lease}. The claim is committed straight away,
+   * so no transaction stays open while mail is sent; a replica that dies mid-batch only delays
+   * its rows until the lease runs out.
+   */
+  public List<Entry> lease(int limit, Duration lease) {
+    String sql =
+        "update public.contact_notification_outbox o "
+            + "set attempts = o.attempts + 1, "
+            + "locked_until = now() + make_interval(secs => :leaseSeconds) "
+            + "where o.id in ("
+            + "select id from public.contact_notification_outbox "
+            + "where status = 'PENDING' and next_attempt_at <= now() "
+            + "and (locked_until is null or locked_until < now()) "
+            + "order by next_attempt_at limit :limit for update skip locked) "
+            + "returning o.id, o.message_id, o.attempts, o.created_at";
+
+    MapSqlParameterSource p =
+        new MapSqlParameterSource()
+            .addValue("limit", limit)
+            .addValue("leaseSeconds", lease.toSeconds());
+
+    return jdbc.query(
+        sql,
+        p,
+        (rs, rowNum) ->
+            new Entry(
+                rs.getLong("id"),
+                rs.getLong("message_id"),
+                rs.getInt("attempts"),
+                toInstant(rs.getTimestamp("created_at"))));
+  }
+
+  /** Size and age of the rows that {@link #lease} would claim right now. */
+  public Backlog dueBacklog() {
+    String sql =
+        "select count(*) as due, min(created_at) as oldest "
+            + "from public.contact_notification_outbox "
+            + "where status = 'PENDING' and next_attempt_at <= now() "
+            + "and (locked_until is null or locked_until < now())";
+    return jdbc.queryForObject(
+        sql,
+        new MapSqlParameterSource(),
+        (rs, rowNum) -> new Backlog(rs.getLong("due"), toInstant(rs.getTimestamp("oldest"))));
+  }
+
+  public void markDelivered(long id) {
+    String sql = "delete from public.contact_notification_outbox where id = :id";
+    jdbc.update(sql, new MapSqlParameterSource("id", id));
+  }
+
+  public void scheduleRetry(long id, Duration delay, String error) {
+    String sql =
+        "update public.contact_notification_outbox "
+            + "set next_attempt_at = now() + make_interval(secs => :delaySeconds), "
+            + "locked_until = null, last_error = :error where id = :id";
+
+    MapSqlParameterSource p =
+        new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("delaySeconds", delay.toSeconds())
+            .addValue("error", truncate(error));
+    jdbc.update(sql, p);
+  }
+
+  public void markDead(long id, String error) {
+    String sql =
+        "update public.contact_notification_outbox "
+            + "set status = 'DEAD', locked_until = null, last_error = :error where id = :id";
+
+    MapSqlParameterSource p =
+        new MapSqlParameterSource().addValue("id", id).addValue("error", truncate(error));
+    jdbc.update(sql, p);
+  }
+
+  public long countByStatus(String status) {
+    String sql = "select count(*) from public.contact_notification_outbox where status = :status";
+    Long count =
+        jdbc.queryForObject(sql, new MapSqlParameterSource("status", status), Long.class);
+    return count == null ? 0 : count;
+  }
+
+  private static String truncate(String error) {
+    if (error == null || error.length() <= 1000) {
+      return error;
+    }
+    return error.substring(0, 1000);
+  }
+
+  private static Instant toInstant(Timestamp timestamp) {
+    return timestamp == null ? null : timestamp.toInstant();
+  }
+
+  public record Entry(long id, long messageId, int attempts, Instant createdAt) {}
+
+  public record Backlog(long due, Instant oldest) {}
+}
@@ -7,15 +7,26 @@ import java.time.Duration;
 import java.util.Base64;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -24,12 +35,13 @@ import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.portfolio.monolith.dto.MessageDto;
+import com.portfolio.monolith.exception.ApiException;
 import com.portfolio.monolith.exception.BadRequestException;
 import com.portfolio.monolith.exception.RateLimitExceededException;
 
 import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
 import io.github.bucket4j.Refill;
+import jakarta.annotation.PreDestroy;
 
 @Service
 public class ContactProtectionService {
@@ -43,10 +55,12 @@ public class ContactProtectionService {
       List.of("buy now", "crypto giveaway", "viagra", "click here", "guaranteed income");
 
   private final RestTemplate restTemplate;
-  private final Map<String, Bucket> ipBuckets = new ConcurrentHashMap<>();
-  private final Map<String, Bucket> emailBuckets = new ConcurrentHashMap<>();
-  private final Map<String, Bucket> nameBuckets = new ConcurrentHashMap<>();
-  private final Map<String, Bucket> identityBuckets = new ConcurrentHashMap<>();
+  private final ThreadPoolExecutor captchaExecutor;
+  private final Duration captchaDeadline;
+  private final RateLimitBucketStore ipBuckets;
+  private final RateLimitBucketStore emailBuckets;
+  private final RateLimitBucketStore nameBuckets;
+  private final RateLimitBucketStore identityBuckets;
 
   @Value("${security.contact.turnstile.enabled:false}")
   private boolean turnstileEnabled;
@@ -64,8 +78,33 @@ public class ContactProtectionService {
   @Value("${security.contact.ip-hash-salt:local-dev-salt-change-me}")
   private String ipHashSalt;
 
-  public ContactProtectionService(RestTemplate restTemplate) {
+  public ContactProtectionService(
+      @Qualifier("turnstileRestTemplate") RestTemplate restTemplate,
+      @Value("${security.contact.turnstile.parallelism:8}") int captchaParallelism,
+      @Value("${security.contact.turnstile.queue-capacity:16}") int captchaQueueCapacity,
+      @Value("${security.contact.turnstile.deadline:10s}") Duration captchaDeadline,
+      RateLimitBackend rateLimitBackend) {
     this.restTemplate = restTemplate;
+    // Verifications beyond the queue are refused rather than left to wait out their deadline.
+    int threads = Math.max(1, captchaParallelism);
+    BlockingQueue<Runnable> queue =
+        captchaQueueCapacity > 0
+            ? new ArrayBlockingQueue<>(captchaQueueCapacity)
+            : new SynchronousQueue<>();
+    this.captchaExecutor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0,
+            TimeUnit.MILLISECONDS,
+            queue,
+            new CustomizableThreadFactory("turnstile-verify-"));
+    this.captchaDeadline = captchaDeadline;
+
+    this.ipBuckets = rateLimitBackend.store("ip", limits(3, 10));
+    this.emailBuckets = rateLimitBackend.store("email", limits(2, 8));
+    this.nameBuckets = rateLimitBackend.store("name", limits(4, 12));
+    this.identityBuckets = rateLimitBackend.store("identity", limits(2, 6));
   }
 
   public void validateSubmission(MessageDto messageDto, String clientIp, String userAgent) {
@@ -78,13 +117,26 @@ public class ContactProtectionService {
     String identityHash = hashIdentifier("identity", normalizedName + "|" + normalizedEmail);
 
     validateHoneypot(messageDto.website, userAgent);
-    enforceIpRateLimit(ipHash);
-    enforceNameRateLimit(nameHash);
-    enforceEmailRateLimit(emailHash);
-    enforceIdentityRateLimit(identityHash);
-    validateCaptcha(messageDto.captchaToken, normalizedIp, ipHash, userAgent);
-    validateLinkCount(messageDto.message, ipHash, userAgent);
-    validateSpamKeywords(messageDto.message, ipHash, userAgent);
+    // The Turnstile round trip runs while the local checks do, and is abandoned as soon as one of
+    // them rejects the submission.
+    long deadline = System.nanoTime() + captchaDeadline.toNanos();
+    Future<?> captcha = startCaptchaValidation(messageDto.captchaToken, normalizedIp);
+    try {
+      enforceIpRateLimit(ipHash);
+      enforceNameRateLimit(nameHash);
+      enforceEmailRateLimit(emailHash);
+      enforceIdentityRateLimit(identityHash);
+      validateLinkCount(messageDto.message, ipHash, userAgent);
+      validateSpamKeywords(messageDto.message, ipHash, userAgent);
+      awaitCaptchaValidation(captcha, deadline);
+    } finally {
+      captcha.cancel(true);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    captchaExecutor.shutdownNow();
   }
 
   public void sanitize(MessageDto messageDto) {
@@ -110,61 +162,39 @@ public class ContactProtectionService {
   }
 
   private void enforceIpRateLimit(String ipHash) {
-    Bucket bucket = ipBuckets.computeIfAbsent(ipHash, this::newRateLimitedBucket);
-    if (!bucket.tryConsume(1)) {
+    if (!ipBuckets.tryConsume(ipHash)) {
       throw new RateLimitExceededException("Too many contact form submissions");
     }
   }
 
   private void enforceEmailRateLimit(String emailHash) {
-    Bucket bucket = emailBuckets.computeIfAbsent(emailHash, this::newEmailRateLimitedBucket);
-    if (!bucket.tryConsume(1)) {
+    if (!emailBuckets.tryConsume(emailHash)) {
       throw new RateLimitExceededException("Too many contact form submissions");
     }
   }
 
   private void enforceNameRateLimit(String nameHash) {
-    Bucket bucket = nameBuckets.computeIfAbsent(nameHash, this::newNameRateLimitedBucket);
-    if (!bucket.tryConsume(1)) {
+    if (!nameBuckets.tryConsume(nameHash)) {
       throw new RateLimitExceededException("Too many contact form submissions");
     }
   }
 
   private void enforceIdentityRateLimit(String identityHash) {
-    Bucket bucket =
-        identityBuckets.computeIfAbsent(identityHash, this::newIdentityRateLimitedBucket);
-    if (!bucket.tryConsume(1)) {
+    if (!identityBuckets.tryConsume(identityHash)) {
       throw new RateLimitExceededException("Too many contact form submissions");
     }
   }
 
-  private Bucket newRateLimitedBucket(String ignored) {
-    Bandwidth tenMinuteLimit = Bandwidth.classic(3, Refill.intervally(3, Duration.ofMinutes(10)));
-    Bandwidth dailyLimit = Bandwidth.classic(10, Refill.intervally(10, Duration.ofHours(24)));
-    return Bucket.builder().addLimit(tenMinuteLimit).addLimit(dailyLimit).build();
-  }
-
-  private Bucket newEmailRateLimitedBucket(String ignored) {
-    Bandwidth tenMinuteLimit = Bandwidth.classic(2, Refill.intervally(2, Duration.ofMinutes(10)));
-    Bandwidth dailyLimit = Bandwidth.classic(8, Refill.intervally(8, Duration.ofHours(24)));
-    return Bucket.builder().addLimit(tenMinuteLimit).addLimit(dailyLimit).build();
+  /** A ten-minute burst limit and a daily limit, each refilled in full at the end of its period. */
+  private static List<Bandwidth> limits(long perTenMinutes, long perDay) {
+    return List.of(
+        Bandwidth.classic(perTenMinutes, Refill.intervally(perTenMinutes, Duration.ofMinutes(10))),
+        Bandwidth.classic(perDay, Refill.intervally(perDay, Duration.ofHours(24))));
   }
 
-  private Bucket newNameRateLimitedBucket(String ignored) {
-    Bandwidth tenMinuteLimit = Bandwidth.classic(4, Refill.intervally(4, Duration.ofMinutes(10)));
-    Bandwidth dailyLimit = Bandwidth.classic(12, Refill.intervally(12, Duration.ofHours(24)));
-    return Bucket.builder().addLimit(tenMinuteLimit).addLimit(dailyLimit).build();
-  }
-
-  private Bucket newIdentityRateLimitedBucket(String ignored) {
-    Bandwidth tenMinuteLimit = Bandwidth.classic(2, Refill.intervally(2, Duration.ofMinutes(10)));
-    Bandwidth dailyLimit = Bandwidth.classic(6, Refill.intervally(6, Duration.ofHours(24)));
-    return Bucket.builder().addLimit(tenMinuteLimit).addLimit(dailyLimit).build();
-  }
-
-  private void validateCaptcha(String token, String clientIp, String ipHash, String userAgent) {
+  private Future<?> startCaptchaValidation(String token, String clientIp) {
     if (!turnstileEnabled) {
-      return;
+      return CompletableFuture.completedFuture(null);
     }
 
     if (token == null || token.isBlank()) {
@@ -175,6 +205,37 @@ public class ContactProtectionService {
       throw new BadRequestException("Invalid captcha");
     }
 
+    try {
+      return captchaExecutor.submit(() -> validateCaptcha(token, clientIp));
+    } catch (RejectedExecutionException ex) {
+      throw captchaUnavailable();
+    }
+  }
+
+  private void awaitCaptchaValidation(Future<?> captcha, long deadline) {
+    try {
+      captcha.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof BadRequestException rejected) {
+        throw rejected;
+      }
+      throw new BadRequestException("Invalid captcha");
+    } catch (TimeoutException ex) {
+      // The deadline outlasts the Turnstile client timeouts, so this means the verification
+      // queue is backed up; the token itself was never judged.
+      throw captchaUnavailable();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw captchaUnavailable();
+    }
+  }
+
+  private static ApiException captchaUnavailable() {
+    return new ApiException(
+        HttpStatus.SERVICE_UNAVAILABLE, "Contact form is temporarily unavailable");
+  }
+
+  private void validateCaptcha(String token, String clientIp) {
     MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
     body.add("secret", turnstileSecretKey);
     body.add("response", token);
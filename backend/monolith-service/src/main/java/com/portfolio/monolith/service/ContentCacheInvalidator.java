@@ -0,0 +1,43 @@
+package com.portfolio.monolith.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.portfolio.monolith.config.CacheNames;
+
+@Service
+public class ContentCacheInvalidator {
+
+  private static final Logger log = LoggerFactory.getLogger(ContentCacheInvalidator.class);
+
+  private final CacheManager cacheManager;
+
+  public ContentCacheInvalidator(CacheManager cacheManager) {
+    this.cacheManager = cacheManager;
+  }
+
+  @EventListener
+  public void onContentChanged(ContentChangedEvent event) {
+    if (event.section() == null) {
+      for (ContentSection section : ContentSection.values()) {
+        clear(section.cacheName());
+      }
+      log.info("Cleared all content caches");
+    } else {
+      clear(event.section().cacheName());
+      log.debug("Cleared {} cache after change to id {}", event.section().cacheName(), event.id());
+    }
+    clear(CacheNames.PORTFOLIO);
+  }
+
+  private void clear(String cacheName) {
+    Cache cache = cacheManager.getCache(cacheName);
+    if (cache != null) {
+      cache.clear();
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package com.portfolio.monolith.service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Properties;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Listens on the {@code portfolio_content_changes} channel fed by the content and
+ * {@code admin_users} triggers and republishes each notification as a {@link ContentChangedEvent}
+ * or {@link AdminUsersChangedEvent}. The listener owns a dedicated JDBC connection outside the
+ * Hikari pool, since LISTEN is bound to the session. Notifications sent while it is disconnected
+ * are lost, so every (re)connect drops all content caches and reloads the admin set.
+ */
+@Service
+public class ContentChangeListener {
+
+  private static final Logger log = LoggerFactory.getLogger(ContentChangeListener.class);
+
+  static final String CHANNEL = "portfolio_content_changes";
+  private static final String ADMIN_USERS_TABLE = "admin_users";
+
+  private final ApplicationEventPublisher events;
+  private final ObjectMapper objectMapper;
+
+  @Value("${app.cache.invalidation.enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.cache.invalidation.url:${spring.datasource.url:}}")
+  private String url;
+
+  @Value("${spring.datasource.username:}")
+  private String username;
+
+  @Value("${spring.datasource.password:}")
+  private String password;
+
+  @Value("${app.cache.invalidation.poll-timeout:10s}")
+  private Duration pollTimeout;
+
+  @Value("${app.cache.invalidation.max-reconnect-delay:30s}")
+  private Duration maxReconnectDelay;
+
+  private volatile boolean running;
+  private Thread thread;
+
+  public ContentChangeListener(ApplicationEventPublisher events, ObjectMapper objectMapper) {
+    this.events = events;
+    this.objectMapper = objectMapper;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!enabled || url == null || url.isBlank()) {
+      log.info("Content change listener disabled; caches rely on their TTL across replicas");
+      return;
+    }
+    running = true;
+    thread = new Thread(this::run, "content-change-listener");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  @PreDestroy
+  public void stop() {
+    running = false;
+    if (thread != null) {
+      thread.interrupt();
+    }
+  }
+
+  private void run() {
+    long delayMillis = 1000;
+    while (running) {
+      try (Connection connection = connect()) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + CHANNEL);
+        }
+        log.info("Listening for content changes on channel '{}'", CHANNEL);
+        // Backfill: anything written while this replica was not listening is unknown.
+        events.publishEvent(ContentChangedEvent.all());
+        events.publishEvent(new AdminUsersChangedEvent());
+        delayMillis = 1000;
+        listen(connection);
+      } catch (SQLException ex) {
+        if (!running) {
+          return;
+        }
+        log.warn(
+            "Content change listener disconnected, retrying in {} ms: {}",
+            delayMillis,
+            ex.getMessage());
+      }
+      try {
+        Thread.sleep(delayMillis);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      delayMillis = Math.min(delayMillis * 2, maxReconnectDelay.toMillis());
+    }
+  }
+
+  Connection connect() throws SQLException {
+    Properties properties = new Properties();
+    if (!username.isBlank()) {
+      properties.setProperty("user", username);
+    }
+    if (!password.isBlank()) {
+      properties.setProperty("password", password);
+    }
+    // Lets a dead TCP connection surface as an error instead of blocking the poll forever.
+    properties.setProperty("tcpKeepAlive", "true");
+    return DriverManager.getConnection(url, properties);
+  }
+
+  private void listen(Connection connection) throws SQLException {
+    PGConnection pgConnection = connection.unwrap(PGConnection.class);
+    int timeoutMillis = (int) pollTimeout.toMillis();
+    while (running) {
+      PGNotification[] notifications = pgConnection.getNotifications(timeoutMillis);
+      if (notifications == null || notifications.length == 0) {
+        // Idle: a round-trip makes a silently dropped session fail here and trigger a reconnect.
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("select 1");
+        }
+        continue;
+      }
+      for (PGNotification notification : notifications) {
+        events.publishEvent(toEvent(notification.getParameter()));
+      }
+    }
+  }
+
+  Object toEvent(String payload) {
+    try {
+      JsonNode json = objectMapper.readTree(payload);
+      String table = json.path("table").asText();
+      if (ADMIN_USERS_TABLE.equals(table)) {
+        return new AdminUsersChangedEvent();
+      }
+      for (ContentSection section : ContentSection.values()) {
+        if (section.tableName().equals(table)) {
+          JsonNode id = json.get("id");
+          return new ContentChangedEvent(section, id == null || id.isNull() ? null : id.asLong());
+        }
+      }
+      log.warn("Content change for unknown table '{}', clearing all content caches", table);
+    } catch (JsonProcessingException ex) {
+      log.warn("Unreadable content change payload '{}', clearing all content caches", payload);
+    }
+    return ContentChangedEvent.all();
+  }
+}
@@ -0,0 +1,13 @@
+package com.portfolio.monolith.service;
+
+/**
+ * A content row changed, possibly on another replica. {@code section} is null when the change
+ * cannot be narrowed down (for example after the notification channel reconnects), in which case
+ * every content cache must be dropped.
+ */
+public record ContentChangedEvent(ContentSection section, Long id) {
+
+  public static ContentChangedEvent all() {
+    return new ContentChangedEvent(null, null);
+  }
+}
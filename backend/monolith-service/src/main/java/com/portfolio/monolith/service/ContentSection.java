@@ -0,0 +1,28 @@
+package com.portfolio.monolith.service;
+
+import com.portfolio.monolith.config.CacheNames;
+
+public enum ContentSection {
+  PROJECTS(CacheNames.PROJECTS, "projects"),
+  SKILLS(CacheNames.SKILLS, "skills"),
+  EDUCATION(CacheNames.EDUCATION, "education"),
+  EXPERIENCE(CacheNames.EXPERIENCE, "work_experience"),
+  HOBBIES(CacheNames.HOBBIES, "hobbies"),
+  TESTIMONIALS(CacheNames.TESTIMONIALS, "testimonials");
+
+  private final String cacheName;
+  private final String tableName;
+
+  ContentSection(String cacheName, String tableName) {
+    this.cacheName = cacheName;
+    this.tableName = tableName;
+  }
+
+  public String cacheName() {
+    return cacheName;
+  }
+
+  public String tableName() {
+    return tableName;
+  }
+}
@@ -0,0 +1,54 @@
+package com.portfolio.monolith.service;
+
+import java.sql.Timestamp;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Cheap per-table content version ({@code count(*)} plus {@code max(updated_at)}) used to build
+ * strong ETags. The version is stored in the section's own cache, so the {@code @CacheEvict} on
+ * every write drops it together with the cached rows.
+ */
+@Service
+public class ContentVersionService {
+
+  private static final String VERSION_KEY = "version";
+
+  private final NamedParameterJdbcTemplate jdbc;
+  private final CacheManager cacheManager;
+
+  public ContentVersionService(NamedParameterJdbcTemplate jdbc, CacheManager cacheManager) {
+    this.jdbc = jdbc;
+    this.cacheManager = cacheManager;
+  }
+
+  public String currentVersion(ContentSection section) {
+    Cache cache = cacheManager.getCache(section.cacheName());
+    if (cache == null) {
+      return loadVersion(section);
+    }
+    return cache.get(VERSION_KEY, () -> loadVersion(section));
+  }
+
+  private String loadVersion(ContentSection section) {
+    String sql =
+        "select count(*) as row_count, max(updated_at) as last_updated from public."
+            + section.tableName();
+    return jdbc.queryForObject(
+        sql,
+        new MapSqlParameterSource(),
+        (rs, rowNum) -> {
+          long rowCount = rs.getLong("row_count");
+          Timestamp lastUpdated = rs.getTimestamp("last_updated");
+          long micros =
+              lastUpdated == null
+                  ? 0L
+                  : lastUpdated.getTime() * 1000L + (lastUpdated.getNanos() / 1000) % 1000;
+          return Long.toHexString(rowCount) + "-" + Long.toHexString(micros);
+        });
+  }
+}
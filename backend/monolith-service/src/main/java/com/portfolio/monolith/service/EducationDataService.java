@@ -5,6 +5,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -12,6 +14,7 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
 
+import com.portfolio.monolith.config.CacheNames;
 import com.portfolio.monolith.dto.EducationDto;
 import com.portfolio.monolith.exception.NotFoundException;
 
@@ -24,6 +27,7 @@ public class EducationDataService {
     this.jdbc = jdbc;
   }
 
+  @Cacheable(cacheNames = CacheNames.EDUCATION, key = CacheNames.ALL_KEY, sync = true)
   public List<EducationDto> getAllEducation() {
     String sql = "select * from public.education order by start_date desc";
     return jdbc.query(sql, rowMapper());
@@ -39,6 +43,7 @@ public class EducationDataService {
     return jdbc.query(sql, rowMapper());
   }
 
+  @CacheEvict(cacheNames = CacheNames.EDUCATION, allEntries = true)
   public EducationDto createEducation(EducationDto dto) {
     String sql =
         "insert into public.education ("
@@ -77,6 +82,7 @@ public class EducationDataService {
     return jdbc.queryForObject(sql, p, rowMapper());
   }
 
+  @CacheEvict(cacheNames = CacheNames.EDUCATION, allEntries = true)
   public EducationDto updateEducation(Long id, EducationDto dto) {
     String sql =
         "update public.education set "
@@ -110,6 +116,7 @@ public class EducationDataService {
     return queryOne(sql, p, "Education not found");
   }
 
+  @CacheEvict(cacheNames = CacheNames.EDUCATION, allEntries = true)
   public void deleteEducation(Long id) {
     String sql = "delete from public.education where id = :id";
     int rows = jdbc.update(sql, new MapSqlParameterSource("id", id));
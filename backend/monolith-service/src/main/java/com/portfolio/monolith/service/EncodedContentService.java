@@ -0,0 +1,127 @@
+package com.portfolio.monolith.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.monolith.exception.ApiException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Pre-encoded JSON bodies (identity and gzip) for the public read path, so the hot path writes
+ * cached arrays without touching Jackson.
+ *
+ * <p>Bodies are keyed by the content version they were built from, so a body loaded while a
+ * write was in flight can never be served under the next version's ETag; bodies of older versions
+ * are simply no longer looked up and age out. They are kept apart from the section caches, both
+ * to keep their loads out of the section caches' own computations and so that lookups keyed by
+ * client input ({@code id:}, {@code status:}, ...) have a budget of their own and cannot push the
+ * full lists out. Lookups that match nothing are not cached at all, so only values present in the
+ * content can take up room there. Both budgets are byte sizes, published as the {@code
+ * content-bodies} and {@code content-lookups} cache metrics.
+ */
+@Service
+public class EncodedContentService {
+
+  /** Key of the full, unfiltered list of a section. */
+  public static final String COLLECTION_KEY = "all";
+
+  private final ObjectMapper objectMapper;
+  private final LocalizedContentService localizedContent;
+  private final Cache<BodyKey, EncodedContent> collections;
+  private final Cache<BodyKey, EncodedContent> lookups;
+
+  public EncodedContentService(
+      ObjectMapper objectMapper,
+      LocalizedContentService localizedContent,
+      MeterRegistry meterRegistry,
+      @Value("${app.cache.encoded-bodies.max-size:16MB}") DataSize maxSize,
+      @Value("${app.cache.encoded-bodies.lookup-max-size:4MB}") DataSize lookupMaxSize,
+      @Value("${app.cache.encoded-bodies.ttl:10m}") Duration ttl) {
+    this.objectMapper = objectMapper;
+    this.localizedContent = localizedContent;
+    this.collections = newCache(maxSize, ttl);
+    this.lookups = newCache(lookupMaxSize, ttl);
+    CaffeineCacheMetrics.monitor(meterRegistry, collections, "content-bodies");
+    CaffeineCacheMetrics.monitor(meterRegistry, lookups, "content-lookups");
+  }
+
+  /**
+   * Returns the body for {@code key} at content version {@code tag}, projected onto {@code lang}
+   * when it is not null. Exceptions thrown by {@code loader} (for example {@code
+   * NotFoundException}) are rethrown as is and nothing is cached.
+   */
+  public EncodedContent encoded(String tag, String key, String lang, Supplier<?> loader) {
+    BodyKey bodyKey = new BodyKey(tag, key, lang);
+    if (COLLECTION_KEY.equals(key)) {
+      return collections.get(bodyKey, ignored -> encode(loader.get(), lang));
+    }
+    EncodedContent cached = lookups.getIfPresent(bodyKey);
+    if (cached != null) {
+      return cached;
+    }
+    Object value = loader.get();
+    EncodedContent body = encode(value, lang);
+    if (!(value instanceof Collection<?> matches && matches.isEmpty())) {
+      lookups.put(bodyKey, body);
+    }
+    return body;
+  }
+
+  public EncodedContent encode(Object value, String lang) {
+    byte[] identity;
+    try {
+      identity =
+          lang == null
+              ? objectMapper.writeValueAsBytes(value)
+              : objectMapper.writeValueAsBytes(localizedContent.localize(value, lang));
+    } catch (JsonProcessingException ex) {
+      throw new ApiException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to serialize response");
+    }
+    byte[] gzip = gzip(identity);
+    return new EncodedContent(identity, gzip.length < identity.length ? gzip : null);
+  }
+
+  private static Cache<BodyKey, EncodedContent> newCache(DataSize maxSize, Duration ttl) {
+    return Caffeine.newBuilder()
+        .maximumWeight(maxSize.toBytes())
+        .weigher((BodyKey key, EncodedContent body) -> body.size())
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+  }
+
+  private static byte[] gzip(byte[] data) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(data);
+    } catch (IOException ex) {
+      throw new ApiException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to compress response");
+    }
+    return out.toByteArray();
+  }
+
+  private record BodyKey(String tag, String key, String lang) {}
+
+  /** Immutable response body; {@code gzip} is null when compression does not pay off. */
+  public record EncodedContent(byte[] identity, byte[] gzip) {
+
+    int size() {
+      return identity.length + (gzip == null ? 0 : gzip.length);
+    }
+  }
+}
@@ -5,6 +5,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -12,6 +14,7 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
 
+import com.portfolio.monolith.config.CacheNames;
 import com.portfolio.monolith.dto.WorkExperienceDto;
 import com.portfolio.monolith.exception.NotFoundException;
 
@@ -24,6 +27,7 @@ public class ExperienceDataService {
     this.jdbc = jdbc;
   }
 
+  @Cacheable(cacheNames = CacheNames.EXPERIENCE, key = CacheNames.ALL_KEY, sync = true)
   public List<WorkExperienceDto> getAllExperiences() {
     String sql = "select * from public.work_experience order by start_date desc";
     return jdbc.query(sql, rowMapper());
@@ -40,6 +44,7 @@ public class ExperienceDataService {
     return jdbc.query(sql, rowMapper());
   }
 
+  @CacheEvict(cacheNames = CacheNames.EXPERIENCE, allEntries = true)
   public WorkExperienceDto createExperience(WorkExperienceDto dto) {
     String sql =
         "insert into public.work_experience ("
@@ -79,6 +84,7 @@ public class ExperienceDataService {
     return jdbc.queryForObject(sql, p, rowMapper());
   }
 
+  @CacheEvict(cacheNames = CacheNames.EXPERIENCE, allEntries = true)
   public WorkExperienceDto updateExperience(Long id, WorkExperienceDto dto) {
     String sql =
         "update public.work_experience set "
@@ -113,6 +119,7 @@ public class ExperienceDataService {
     return queryOne(sql, p, "Experience not found");
   }
 
+  @CacheEvict(cacheNames = CacheNames.EXPERIENCE, allEntries = true)
   public void deleteExperience(Long id) {
     String sql = "delete from public.work_experience where id = :id";
     int rows = jdbc.update(sql, new MapSqlParameterSource("id", id));
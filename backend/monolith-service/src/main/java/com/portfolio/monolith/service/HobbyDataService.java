@@ -4,6 +4,8 @@ import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -11,6 +13,7 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
 
+import com.portfolio.monolith.config.CacheNames;
 import com.portfolio.monolith.dto.HobbyDto;
 import com.portfolio.monolith.exception.NotFoundException;
 
@@ -23,6 +26,7 @@ public class HobbyDataService {
     this.jdbc = jdbc;
   }
 
+  @Cacheable(cacheNames = CacheNames.HOBBIES, key = CacheNames.ALL_KEY, sync = true)
   public List<HobbyDto> getAllHobbies() {
     String sql = "select * from public.hobbies order by created_at desc";
     return jdbc.query(sql, rowMapper());
@@ -33,6 +37,7 @@ public class HobbyDataService {
     return queryOne(sql, new MapSqlParameterSource("id", id), "Hobby not found");
   }
 
+  @CacheEvict(cacheNames = CacheNames.HOBBIES, allEntries = true)
   public HobbyDto createHobby(HobbyDto dto) {
     String sql =
         "insert into public.hobbies ("
@@ -54,6 +59,7 @@ public class HobbyDataService {
     return jdbc.queryForObject(sql, p, rowMapper());
   }
 
+  @CacheEvict(cacheNames = CacheNames.HOBBIES, allEntries = true)
   public HobbyDto updateHobby(Long id, HobbyDto dto) {
     String sql =
         "update public.hobbies set "
@@ -75,6 +81,7 @@ public class HobbyDataService {
     return queryOne(sql, p, "Hobby not found");
   }
 
+  @CacheEvict(cacheNames = CacheNames.HOBBIES, allEntries = true)
   public void deleteHobby(Long id) {
     String sql = "delete from public.hobbies where id = :id";
     int rows = jdbc.update(sql, new MapSqlParameterSource("id", id));
@@ -0,0 +1,115 @@
+package com.portfolio.monolith.service;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Projects the multilingual DTOs ({@code titleEn/titleFr/titleEs}, ...) onto a single language
+ * ({@code title}), falling back to English when a translation is empty.
+ */
+@Service
+public class LocalizedContentService {
+
+  public static final String DEFAULT_LANGUAGE = "en";
+  public static final List<String> SUPPORTED_LANGUAGES = List.of("en", "fr", "es");
+
+  private static final List<String> SUFFIXES = List.of("En", "Fr", "Es");
+
+  private final ObjectMapper objectMapper;
+
+  public LocalizedContentService(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  public String resolveLanguage(String lang, String acceptLanguage) {
+    if (lang != null) {
+      String requested = lang.trim().toLowerCase(Locale.ROOT);
+      if (SUPPORTED_LANGUAGES.contains(requested)) {
+        return requested;
+      }
+    }
+    if (acceptLanguage != null && !acceptLanguage.isBlank()) {
+      try {
+        String match =
+            Locale.lookupTag(Locale.LanguageRange.parse(acceptLanguage), SUPPORTED_LANGUAGES);
+        if (match != null) {
+          return match;
+        }
+      } catch (IllegalArgumentException ex) {
+        // Malformed header, use the default language.
+      }
+    }
+    return DEFAULT_LANGUAGE;
+  }
+
+  public JsonNode localize(Object value, String lang) {
+    return project(objectMapper.valueToTree(value), lang);
+  }
+
+  private JsonNode project(JsonNode node, String lang) {
+    if (node.isArray()) {
+      ArrayNode projected = objectMapper.createArrayNode();
+      for (JsonNode element : node) {
+        projected.add(project(element, lang));
+      }
+      return projected;
+    }
+    if (!node.isObject()) {
+      return node;
+    }
+
+    ObjectNode projected = objectMapper.createObjectNode();
+    Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+    while (fields.hasNext()) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      String base = localizedBaseName(field.getKey());
+      if (base == null) {
+        projected.set(field.getKey(), project(field.getValue(), lang));
+      } else if (!projected.has(base)) {
+        JsonNode value = pickTranslation(node, base, lang);
+        if (value != null) {
+          projected.set(base, value);
+        }
+      }
+    }
+    return projected;
+  }
+
+  private static String localizedBaseName(String fieldName) {
+    for (String suffix : SUFFIXES) {
+      if (fieldName.length() > suffix.length() && fieldName.endsWith(suffix)) {
+        return fieldName.substring(0, fieldName.length() - suffix.length());
+      }
+    }
+    return null;
+  }
+
+  private static JsonNode pickTranslation(JsonNode node, String base, String lang) {
+    JsonNode requested = node.get(base + suffixFor(lang));
+    if (hasText(requested)) {
+      return requested;
+    }
+    JsonNode fallback = node.get(base + suffixFor(DEFAULT_LANGUAGE));
+    if (hasText(fallback)) {
+      return fallback;
+    }
+    return requested != null ? requested : fallback;
+  }
+
+  private static String suffixFor(String lang) {
+    return Character.toUpperCase(lang.charAt(0)) + lang.substring(1);
+  }
+
+  private static boolean hasText(JsonNode value) {
+    return value != null && !value.isNull() && !value.asText("").isBlank();
+  }
+}
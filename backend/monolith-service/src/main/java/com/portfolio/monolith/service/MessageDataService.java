@@ -10,6 +10,7 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.portfolio.monolith.dto.MessageDto;
 import com.portfolio.monolith.exception.NotFoundException;
@@ -18,9 +19,12 @@ import com.portfolio.monolith.exception.NotFoundException;
 public class MessageDataService {
 
   private final NamedParameterJdbcTemplate jdbc;
+  private final ContactNotificationOutbox notificationOutbox;
 
-  public MessageDataService(NamedParameterJdbcTemplate jdbc) {
+  public MessageDataService(
+      NamedParameterJdbcTemplate jdbc, ContactNotificationOutbox notificationOutbox) {
     this.jdbc = jdbc;
+    this.notificationOutbox = notificationOutbox;
   }
 
   public List<MessageDto> getAllMessages() {
@@ -38,6 +42,8 @@ public class MessageDataService {
     return jdbc.query(sql, new MapSqlParameterSource("isRead", isRead), rowMapper());
   }
 
+  /** Inserts the message and its outbox row atomically; delivery happens asynchronously. */
+  @Transactional
   public MessageDto createMessage(MessageDto dto) {
     String sql =
         "insert into public.messages (sender_name, sender_email, subject, message, is_read) "
@@ -50,7 +56,9 @@ public class MessageDataService {
             .addValue("subject", dto.subject)
             .addValue("message", dto.message);
 
-    return jdbc.queryForObject(sql, p, rowMapper());
+    MessageDto created = jdbc.queryForObject(sql, p, rowMapper());
+    notificationOutbox.enqueue(created.id);
+    return created;
   }
 
   public MessageDto updateMessage(Long id, MessageDto dto) {
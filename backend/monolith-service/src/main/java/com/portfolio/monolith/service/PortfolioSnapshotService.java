@@ -0,0 +1,171 @@
+package com.portfolio.monolith.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import com.portfolio.monolith.config.CacheNames;
+import com.portfolio.monolith.dto.EducationDto;
+import com.portfolio.monolith.dto.HobbyDto;
+import com.portfolio.monolith.dto.PortfolioSnapshotDto;
+import com.portfolio.monolith.dto.ProjectDto;
+import com.portfolio.monolith.dto.SkillDto;
+import com.portfolio.monolith.dto.TestimonialDto;
+import com.portfolio.monolith.dto.WorkExperienceDto;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Assembles every public section into one document. Sections are loaded concurrently through the
+ * regular data services (and therefore their read caches) and share one deadline, {@code
+ * app.portfolio.snapshot.timeout} from the start of the request, which bounds the endpoint's
+ * latency however many sections are slow or queued behind each other. A section that fails or is
+ * not loaded by then is reported in {@code unavailableSections} instead of failing the whole
+ * snapshot; one that times out is cancelled, so a stuck query does not keep holding a pool thread.
+ */
+@Service
+public class PortfolioSnapshotService {
+
+  private static final Logger log = LoggerFactory.getLogger(PortfolioSnapshotService.class);
+
+  private static final String SNAPSHOT_KEY = "snapshot";
+
+  private final ProjectDataService projectDataService;
+  private final SkillDataService skillDataService;
+  private final EducationDataService educationDataService;
+  private final ExperienceDataService experienceDataService;
+  private final HobbyDataService hobbyDataService;
+  private final TestimonialDataService testimonialDataService;
+  private final ContentVersionService versions;
+  private final CacheManager cacheManager;
+  private final ExecutorService executor;
+  private final Duration timeout;
+
+  public PortfolioSnapshotService(
+      ProjectDataService projectDataService,
+      SkillDataService skillDataService,
+      EducationDataService educationDataService,
+      ExperienceDataService experienceDataService,
+      HobbyDataService hobbyDataService,
+      TestimonialDataService testimonialDataService,
+      ContentVersionService versions,
+      CacheManager cacheManager,
+      @Value("${app.portfolio.snapshot.parallelism:4}") int parallelism,
+      @Value("${app.portfolio.snapshot.timeout:3s}") Duration timeout) {
+    this.projectDataService = projectDataService;
+    this.skillDataService = skillDataService;
+    this.educationDataService = educationDataService;
+    this.experienceDataService = experienceDataService;
+    this.hobbyDataService = hobbyDataService;
+    this.testimonialDataService = testimonialDataService;
+    this.versions = versions;
+    this.cacheManager = cacheManager;
+    this.executor =
+        Executors.newFixedThreadPool(
+            Math.max(1, parallelism), new CustomizableThreadFactory("portfolio-snapshot-"));
+    this.timeout = timeout;
+  }
+
+  public PortfolioSnapshotDto getSnapshot() {
+    String version = currentVersion();
+    Cache cache = version == null ? null : cacheManager.getCache(CacheNames.PORTFOLIO);
+    if (cache != null) {
+      PortfolioSnapshotDto cached = cache.get(SNAPSHOT_KEY, PortfolioSnapshotDto.class);
+      // A snapshot assembled while a write was in flight carries the older version label, so it
+      // is rebuilt on the next read instead of being served stale until the TTL expires.
+      if (cached != null && version.equals(cached.version)) {
+        return cached;
+      }
+    }
+
+    PortfolioSnapshotDto snapshot = loadSnapshot(version);
+    if (cache != null && snapshot.complete) {
+      cache.put(SNAPSHOT_KEY, snapshot);
+    }
+    return snapshot;
+  }
+
+  private PortfolioSnapshotDto loadSnapshot(String version) {
+    long deadline = System.nanoTime() + timeout.toNanos();
+    Future<List<ProjectDto>> projects = load(projectDataService::getAllProjects);
+    Future<List<SkillDto>> skills = load(skillDataService::getAllSkills);
+    Future<List<EducationDto>> education = load(educationDataService::getAllEducation);
+    Future<List<WorkExperienceDto>> experience = load(experienceDataService::getAllExperiences);
+    Future<List<HobbyDto>> hobbies = load(hobbyDataService::getAllHobbies);
+    Future<List<TestimonialDto>> testimonials =
+        load(testimonialDataService::getApprovedTestimonials);
+
+    List<String> unavailable = new ArrayList<>();
+    PortfolioSnapshotDto snapshot = new PortfolioSnapshotDto();
+    snapshot.projects = await("projects", projects, deadline, unavailable);
+    snapshot.skills = await("skills", skills, deadline, unavailable);
+    snapshot.education = await("education", education, deadline, unavailable);
+    snapshot.experience = await("experience", experience, deadline, unavailable);
+    snapshot.hobbies = await("hobbies", hobbies, deadline, unavailable);
+    snapshot.testimonials = await("testimonials", testimonials, deadline, unavailable);
+    snapshot.unavailableSections = unavailable.isEmpty() ? null : unavailable;
+    snapshot.complete = unavailable.isEmpty() && version != null;
+    snapshot.version = version;
+    snapshot.generatedAt = LocalDateTime.now();
+    return snapshot;
+  }
+
+  private String currentVersion() {
+    StringBuilder sb = new StringBuilder();
+    try {
+      for (ContentSection section : ContentSection.values()) {
+        sb.append(section.cacheName()).append(':');
+        sb.append(versions.currentVersion(section)).append(';');
+      }
+    } catch (RuntimeException ex) {
+      log.warn("Portfolio snapshot version unavailable, serving uncached: {}", ex.getMessage());
+      return null;
+    }
+    return DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private <T> Future<List<T>> load(Supplier<List<T>> loader) {
+    return executor.submit(loader::get);
+  }
+
+  private <T> List<T> await(
+      String section, Future<List<T>> future, long deadline, List<String> unavailable) {
+    try {
+      return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException ex) {
+      future.cancel(true);
+      log.warn("Portfolio snapshot section '{}' missed the {} deadline", section, timeout);
+    } catch (ExecutionException ex) {
+      log.warn("Portfolio snapshot section '{}' unavailable: {}", section, String.valueOf(ex.getCause()));
+    } catch (InterruptedException ex) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      log.warn("Portfolio snapshot section '{}' abandoned: request interrupted", section);
+    }
+    unavailable.add(section);
+    return null;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
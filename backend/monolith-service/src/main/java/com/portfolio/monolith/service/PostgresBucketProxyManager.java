@@ -0,0 +1,121 @@
+package com.portfolio.monolith.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AbstractCompareAndSwapBasedProxyManager;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AsyncCompareAndSwapOperation;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.CompareAndSwapOperation;
+import io.github.bucket4j.distributed.remote.RemoteBucketState;
+
+/**
+ * Bucket4j proxy manager that keeps bucket state in {@code contact_rate_limit_buckets}. Every
+ * update is a compare-and-swap on the serialized state (insert-if-absent for new buckets), so
+ * replicas never hold row locks and a lost race is simply retried by Bucket4j. Rows carry an
+ * {@code expires_at} one {@code ttl} after their last write and are purged by {@link
+ * RateLimitBackend#purgeExpired}.
+ */
+class PostgresBucketProxyManager extends AbstractCompareAndSwapBasedProxyManager<String> {
+
+  private final NamedParameterJdbcTemplate jdbc;
+  private final Duration ttl;
+
+  PostgresBucketProxyManager(NamedParameterJdbcTemplate jdbc, Duration ttl) {
+    super(ClientSideConfig.getDefault());
+    this.jdbc = jdbc;
+    this.ttl = ttl;
+  }
+
+  @Override
+  protected CompareAndSwapOperation beginCompareAndSwapOperation(String key) {
+    return new CompareAndSwapOperation() {
+      @Override
+      public Optional<byte[]> getStateData() {
+        String sql = "select state from public.contact_rate_limit_buckets where id = :id";
+        List<byte[]> rows =
+            jdbc.query(
+                sql, new MapSqlParameterSource("id", key), (rs, rowNum) -> rs.getBytes("state"));
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+      }
+
+      @Override
+      public boolean compareAndSwap(
+          byte[] originalData, byte[] newData, RemoteBucketState newState) {
+        MapSqlParameterSource p =
+            new MapSqlParameterSource()
+                .addValue("id", key)
+                .addValue("state", newData)
+                .addValue("original", originalData)
+                .addValue("ttlSeconds", ttl.toSeconds());
+
+        String sql;
+        if (originalData == null) {
+          sql =
+              "insert into public.contact_rate_limit_buckets (id, state, expires_at) "
+                  + "values (:id, :state, now() + make_interval(secs => :ttlSeconds)) "
+                  + "on conflict (id) do nothing";
+        } else {
+          sql =
+              "update public.contact_rate_limit_buckets "
+                  + "set state = :state, expires_at = now() + make_interval(secs => :ttlSeconds) "
+                  + "where id = :id and state = :original";
+        }
+        return jdbc.update(sql, p) == 1;
+      }
+    };
+  }
+
+  // JDBC has no asynchronous driver here, so the async view runs the same statements on the
+  // calling thread and hands back completed futures.
+  @Override
+  protected AsyncCompareAndSwapOperation beginAsyncCompareAndSwapOperation(String key) {
+    CompareAndSwapOperation operation = beginCompareAndSwapOperation(key);
+    return new AsyncCompareAndSwapOperation() {
+      @Override
+      public CompletableFuture<Optional<byte[]>> getStateData() {
+        return complete(operation::getStateData);
+      }
+
+      @Override
+      public CompletableFuture<Boolean> compareAndSwap(
+          byte[] originalData, byte[] newData, RemoteBucketState newState) {
+        return complete(() -> operation.compareAndSwap(originalData, newData, newState));
+      }
+    };
+  }
+
+  @Override
+  public void removeProxy(String key) {
+    String sql = "delete from public.contact_rate_limit_buckets where id = :id";
+    jdbc.update(sql, new MapSqlParameterSource("id", key));
+  }
+
+  @Override
+  protected CompletableFuture<Void> removeAsync(String key) {
+    return complete(
+        () -> {
+          removeProxy(key);
+          return null;
+        });
+  }
+
+  @Override
+  public boolean isAsyncModeSupported() {
+    return true;
+  }
+
+  private static <T> CompletableFuture<T> complete(Supplier<T> action) {
+    try {
+      return CompletableFuture.completedFuture(action.get());
+    } catch (RuntimeException ex) {
+      return CompletableFuture.failedFuture(ex);
+    }
+  }
+}
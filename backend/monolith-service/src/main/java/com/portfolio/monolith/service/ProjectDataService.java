@@ -5,6 +5,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -12,6 +14,7 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
 
+import com.portfolio.monolith.config.CacheNames;
 import com.portfolio.monolith.dto.ProjectDto;
 import com.portfolio.monolith.exception.NotFoundException;
 
@@ -24,6 +27,7 @@ public class ProjectDataService {
     this.jdbc = jdbc;
   }
 
+  @Cacheable(cacheNames = CacheNames.PROJECTS, key = CacheNames.ALL_KEY, sync = true)
   public List<ProjectDto> getAllProjects() {
     String sql = "select * from public.projects order by created_at desc";
     return jdbc.query(sql, rowMapper());
@@ -39,6 +43,7 @@ public class ProjectDataService {
     return jdbc.query(sql, new MapSqlParameterSource("status", status), rowMapper());
   }
 
+  @CacheEvict(cacheNames = CacheNames.PROJECTS, allEntries = true)
   public ProjectDto createProject(ProjectDto dto) {
     String sql =
         "insert into public.projects ("
@@ -68,6 +73,7 @@ public class ProjectDataService {
     return jdbc.queryForObject(sql, p, rowMapper());
   }
 
+  @CacheEvict(cacheNames = CacheNames.PROJECTS, allEntries = true)
   public ProjectDto updateProject(Long id, ProjectDto dto) {
     String sql =
         "update public.projects set "
@@ -97,6 +103,7 @@ public class ProjectDataService {
     return queryOne(sql, p, "Project not found");
   }
 
+  @CacheEvict(cacheNames = CacheNames.PROJECTS, allEntries = true)
   public void deleteProject(Long id) {
     String sql = "delete from public.projects where id = :id";
     int rows = jdbc.update(sql, new MapSqlParameterSource("id", id));
@@ -0,0 +1,94 @@
+package com.portfolio.monolith.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimization;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Creates the contact-form {@link RateLimitBucketStore}s from {@code security.contact.rate-limit}
+ * settings. With {@code backend: postgres}, limits hold across all replicas and survive restarts.
+ *
+ * <p>By default every check is one compare-and-swap against the shared row, so the limit is exact
+ * across replicas. Setting {@code sync.max-unsynchronized-tokens} above zero enables Bucket4j's
+ * delaying optimization: each replica then spends up to that many tokens from its local copy
+ * before writing back (and syncs at least every {@code sync.max-unsynchronized-timeout}). That
+ * spending is optimistic, not pre-allocated, so every replica can admit that many tokens beyond
+ * the shared limit per sync window. Only enable it for limits much larger than the token count
+ * times the number of replicas.
+ */
+@Service
+public class RateLimitBackend {
+
+  private static final Logger log = LoggerFactory.getLogger(RateLimitBackend.class);
+
+  private final NamedParameterJdbcTemplate jdbc;
+  private final MeterRegistry meterRegistry;
+  private final long maxEntries;
+  private final RateLimitBucketStore.OverflowPolicy overflowPolicy;
+  private final RateLimitBucketStore.Remote remote;
+
+  public RateLimitBackend(
+      NamedParameterJdbcTemplate jdbc,
+      MeterRegistry meterRegistry,
+      @Value("${security.contact.rate-limit.max-entries:10000}") long maxEntries,
+      @Value("${security.contact.rate-limit.overflow-policy:evict}") String overflowPolicy,
+      @Value("${security.contact.rate-limit.backend:local}") String backend,
+      @Value("${security.contact.rate-limit.failure-policy:open}") String failurePolicy,
+      @Value("${security.contact.rate-limit.sync.max-unsynchronized-tokens:0}")
+          long maxUnsynchronizedTokens,
+      @Value("${security.contact.rate-limit.sync.max-unsynchronized-timeout:5s}")
+          Duration maxUnsynchronizedTimeout) {
+    this.jdbc = jdbc;
+    this.meterRegistry = meterRegistry;
+    this.maxEntries = maxEntries;
+    this.overflowPolicy =
+        RateLimitBucketStore.OverflowPolicy.valueOf(overflowPolicy.trim().toUpperCase(Locale.ROOT));
+
+    if ("postgres".equalsIgnoreCase(backend.trim())) {
+      this.remote =
+          new RateLimitBucketStore.Remote(
+              jdbc,
+              maxUnsynchronizedTokens > 0
+                  ? Optimizations.delaying(
+                      new DelayParameters(maxUnsynchronizedTokens, maxUnsynchronizedTimeout))
+                  : Optimization.NONE_OPTIMIZED,
+              !"closed".equalsIgnoreCase(failurePolicy.trim()));
+    } else {
+      this.remote = null;
+    }
+  }
+
+  public RateLimitBucketStore store(String name, List<Bandwidth> limits) {
+    return new RateLimitBucketStore(
+        name, limits, maxEntries, overflowPolicy, remote, meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${security.contact.rate-limit.purge-interval:PT1H}")
+  public void purgeExpired() {
+    if (remote == null) {
+      return;
+    }
+    try {
+      String sql = "delete from public.contact_rate_limit_buckets where expires_at < now()";
+      int deleted = jdbc.update(sql, new MapSqlParameterSource());
+      log.debug("Purged {} expired rate-limit buckets", deleted);
+    } catch (DataAccessException ex) {
+      log.warn("Failed to purge expired rate-limit buckets: {}", ex.getMessage());
+    }
+  }
+}
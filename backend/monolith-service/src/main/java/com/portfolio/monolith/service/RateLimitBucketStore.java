@@ -0,0 +1,191 @@
+package com.portfolio.monolith.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.portfolio.monolith.exception.ApiException;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConfigurationBuilder;
+import io.github.bucket4j.distributed.proxy.optimization.Optimization;
+import io.github.bucket4j.local.LocalBucketBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded store for one family of rate-limit buckets (per IP, per email, ...).
+ *
+ * <p>Buckets live in local memory by default. With a {@link Remote}, their state is instead kept
+ * in Postgres and shared across replicas, and the in-memory entries hold the optimized bucket
+ * proxies. If Postgres cannot be reached, a fail-open store falls back to local buckets, and a
+ * fail-closed store rejects the submission with 503.
+ *
+ * <p>A bucket is dropped once it has gone untouched for its longest refill period. By then every
+ * limit has refilled completely, so recreating it later is indistinguishable from keeping it.
+ * The store never holds more than {@code maxEntries} buckets. When it is full, {@link
+ * OverflowPolicy#EVICT} makes room by evicting a cold bucket, which resets that key's limits if
+ * they are local. {@link OverflowPolicy#REJECT} refuses keys it has not seen yet until room
+ * frees up.
+ *
+ * <p>Size and evictions are published as the {@code contact-rate-limit-<name>} cache metrics.
+ * Estimated heap use is published as {@code contact.rate.limit.buckets.memory}.
+ */
+public class RateLimitBucketStore {
+
+  private static final Logger log = LoggerFactory.getLogger(RateLimitBucketStore.class);
+
+  /** Rough retained size of one entry: hashed key, two-limit bucket state and the cache node. */
+  private static final long ESTIMATED_ENTRY_BYTES = 512;
+
+  public enum OverflowPolicy {
+    EVICT,
+    REJECT
+  }
+
+  /** Postgres-backed shared state. {@code optimization} controls how often a bucket syncs. */
+  public record Remote(
+      NamedParameterJdbcTemplate jdbc, Optimization optimization, boolean failOpen) {}
+
+  private final String name;
+  private final List<Bandwidth> limits;
+  private final long maxEntries;
+  private final OverflowPolicy overflowPolicy;
+  private final Remote remote;
+  private final PostgresBucketProxyManager proxyManager;
+  private final BucketConfiguration configuration;
+  private final Cache<String, Bucket> buckets;
+  private final Cache<String, Bucket> fallbackBuckets;
+  private final Counter rejected;
+  private final Counter remoteFailures;
+
+  public RateLimitBucketStore(
+      String name,
+      List<Bandwidth> limits,
+      long maxEntries,
+      OverflowPolicy overflowPolicy,
+      Remote remote,
+      MeterRegistry meterRegistry) {
+    this.name = name;
+    this.limits = List.copyOf(limits);
+    this.maxEntries = maxEntries;
+    this.overflowPolicy = overflowPolicy;
+    this.remote = remote;
+
+    Duration idle = longestRefillPeriod(limits);
+    this.buckets = newCache(idle, maxEntries);
+    CaffeineCacheMetrics.monitor(meterRegistry, buckets, "contact-rate-limit-" + name);
+    Gauge.builder(
+            "contact.rate.limit.buckets.memory",
+            buckets,
+            cache -> cache.estimatedSize() * ESTIMATED_ENTRY_BYTES)
+        .tag("store", name)
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    this.rejected =
+        Counter.builder("contact.rate.limit.buckets.rejected")
+            .description("New keys refused because the bucket store was full")
+            .tag("store", name)
+            .register(meterRegistry);
+
+    if (remote != null) {
+      this.proxyManager = new PostgresBucketProxyManager(remote.jdbc(), idle);
+      ConfigurationBuilder builder = BucketConfiguration.builder();
+      for (Bandwidth limit : this.limits) {
+        builder.addLimit(limit);
+      }
+      this.configuration = builder.build();
+      this.fallbackBuckets = remote.failOpen() ? newCache(idle, maxEntries) : null;
+    } else {
+      this.proxyManager = null;
+      this.configuration = null;
+      this.fallbackBuckets = null;
+    }
+    this.remoteFailures =
+        Counter.builder("contact.rate.limit.remote.failures")
+            .description("Checks that could not reach the shared bucket state")
+            .tag("store", name)
+            .register(meterRegistry);
+  }
+
+  /** Consumes one token for {@code key}; false means the caller is over the limit. */
+  public boolean tryConsume(String key) {
+    Bucket bucket = buckets.getIfPresent(key);
+    if (bucket == null) {
+      if (overflowPolicy == OverflowPolicy.REJECT && isFull()) {
+        rejected.increment();
+        return false;
+      }
+      bucket = buckets.get(key, this::newBucket);
+    }
+    if (remote == null) {
+      return bucket.tryConsume(1);
+    }
+
+    try {
+      return bucket.tryConsume(1);
+    } catch (RuntimeException ex) {
+      remoteFailures.increment();
+      if (!remote.failOpen()) {
+        log.warn("Shared rate-limit state unavailable, rejecting: {}", ex.getMessage());
+        throw new ApiException(
+            HttpStatus.SERVICE_UNAVAILABLE, "Contact form is temporarily unavailable");
+      }
+      log.warn("Shared rate-limit state unavailable, using local buckets: {}", ex.getMessage());
+      return fallbackBuckets.get(key, ignored -> newLocalBucket()).tryConsume(1);
+    }
+  }
+
+  private boolean isFull() {
+    if (buckets.estimatedSize() < maxEntries) {
+      return false;
+    }
+    // Expired buckets are only dropped during maintenance; run it before refusing a new key.
+    buckets.cleanUp();
+    return buckets.estimatedSize() >= maxEntries;
+  }
+
+  private Bucket newBucket(String key) {
+    if (proxyManager == null) {
+      return newLocalBucket();
+    }
+    return proxyManager
+        .builder()
+        .withOptimization(remote.optimization())
+        .build(name + ":" + key, () -> configuration);
+  }
+
+  private Bucket newLocalBucket() {
+    LocalBucketBuilder builder = Bucket.builder();
+    for (Bandwidth limit : limits) {
+      builder.addLimit(limit);
+    }
+    return builder.build();
+  }
+
+  private static Cache<String, Bucket> newCache(Duration idle, long maxEntries) {
+    return Caffeine.newBuilder()
+        .expireAfterAccess(idle)
+        .maximumSize(maxEntries)
+        .recordStats()
+        .build();
+  }
+
+  private static Duration longestRefillPeriod(List<Bandwidth> limits) {
+    long nanos = 0;
+    for (Bandwidth limit : limits) {
+      nanos = Math.max(nanos, limit.getRefillPeriodNanos());
+    }
+    return Duration.ofNanos(nanos);
+  }
+}
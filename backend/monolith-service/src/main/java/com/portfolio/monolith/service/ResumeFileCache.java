@@ -0,0 +1,406 @@
+package com.portfolio.monolith.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Two-tier cache for resume files fetched from Supabase storage. Every body is kept on local disk
+ * (with a sidecar holding its validators) and bodies up to {@code memory-max-entry-size} are
+ * also kept in a byte-bounded in-memory LRU. Entries older than {@code fresh-for} are still
+ * served while a background conditional GET ({@code If-None-Match}/{@code If-Modified-Since})
+ * revalidates them.
+ */
+@Service
+public class ResumeFileCache {
+
+  private static final Logger log = LoggerFactory.getLogger(ResumeFileCache.class);
+
+  private static final String BODY_SUFFIX = ".pdf";
+  private static final String META_SUFFIX = ".properties";
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+  private final RestTemplate restTemplate;
+  private final Path directory;
+  private final Duration freshFor;
+  private final Cache<Path, byte[]> memory;
+  private final long memoryMaxEntrySize;
+  private final Map<ResumeKey, CachedResume> entries = new ConcurrentHashMap<>();
+  private final Map<ResumeKey, Object> locks = new ConcurrentHashMap<>();
+  private final Set<ResumeKey> revalidating = ConcurrentHashMap.newKeySet();
+  private final ExecutorService revalidator =
+      Executors.newSingleThreadExecutor(new CustomizableThreadFactory("resume-revalidate-"));
+
+  public ResumeFileCache(
+      @Qualifier("supabaseStorageRestTemplate") RestTemplate restTemplate,
+      @Value("${app.resume.cache.dir:${java.io.tmpdir}/portfolio-resume-cache}") String directory,
+      @Value("${app.resume.cache.memory-max-size:16MB}") DataSize memoryMaxSize,
+      @Value("${app.resume.cache.memory-max-entry-size:2MB}") DataSize memoryMaxEntrySize,
+      @Value("${app.resume.cache.fresh-for:5m}") Duration freshFor) {
+    this.restTemplate = restTemplate;
+    this.directory = Path.of(directory);
+    this.freshFor = freshFor;
+    this.memoryMaxEntrySize = memoryMaxEntrySize.toBytes();
+    this.memory =
+        Caffeine.newBuilder()
+            .maximumWeight(memoryMaxSize.toBytes())
+            .weigher((Path file, byte[] bytes) -> bytes.length)
+            .build();
+    loadIndex();
+  }
+
+  /**
+   * Returns the cached file for {@code key}, fetching {@code url} on a cold miss. Returns null
+   * when the object does not exist upstream (any 4xx); other upstream errors on a cold miss are
+   * rethrown.
+   */
+  public CachedResume get(ResumeKey key, String url) {
+    CachedResume entry = peek(key, url);
+    if (entry == null) {
+      synchronized (lock(key)) {
+        entry = entries.get(key);
+        if (entry == null) {
+          entry = fetch(key, url, null);
+        }
+      }
+    }
+    return entry;
+  }
+
+  /** Returns the cached file for {@code key} without going upstream, or null on a miss. */
+  public CachedResume peek(ResumeKey key, String url) {
+    CachedResume entry = entries.get(key);
+    if (entry != null
+        && entry.fetchedAt().plus(freshFor).isBefore(Instant.now())
+        && revalidating.add(key)) {
+      revalidator.execute(() -> revalidate(key, url));
+    }
+    return entry;
+  }
+
+  /**
+   * Cold-miss path that does not make the client wait for the whole file: the upstream body is
+   * copied to {@code target} and to the disk tier in one pass through a fixed-size buffer, then
+   * committed to the cache. Returns false when the object does not exist upstream, which covers
+   * any 4xx since storage answers a missing public object with 400 as well as 404. A client that
+   * goes away mid-download aborts the copy; nothing is cached and no error is raised, since the
+   * response is already committed.
+   */
+  public boolean streamThrough(ResumeKey key, String url, UpstreamTarget target) {
+    try {
+      restTemplate.execute(
+          url,
+          HttpMethod.GET,
+          null,
+          response -> {
+            HttpHeaders headers = response.getHeaders();
+            OutputStream out;
+            try {
+              out =
+                  target.open(
+                      headers.getContentLength(),
+                      contentType(headers),
+                      headers.getFirst(HttpHeaders.LAST_MODIFIED));
+            } catch (IOException ex) {
+              throw new ClientAbortedException(ex);
+            }
+            Path temp = Files.createTempFile(directory, "download-", ".tmp");
+            try {
+              long size = 0;
+              try (InputStream body = response.getBody();
+                  OutputStream disk = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[COPY_BUFFER_SIZE];
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                  try {
+                    out.write(buffer, 0, read);
+                  } catch (IOException ex) {
+                    throw new ClientAbortedException(ex);
+                  }
+                  disk.write(buffer, 0, read);
+                  size += read;
+                }
+              }
+              synchronized (lock(key)) {
+                replace(key, temp, size, headers);
+              }
+            } finally {
+              Files.deleteIfExists(temp);
+            }
+            return null;
+          });
+      return true;
+    } catch (HttpClientErrorException ex) {
+      return false;
+    } catch (ResourceAccessException ex) {
+      if (!(ex.getCause() instanceof ClientAbortedException aborted)) {
+        throw ex;
+      }
+      log.debug("Client aborted resume download {}: {}", key, aborted.getCause().getMessage());
+      return true;
+    }
+  }
+
+  /**
+   * Returns the body from the memory tier, loading it from disk when it is small enough to be
+   * kept there. Returns null for larger bodies, which are served from disk instead.
+   */
+  public byte[] cachedBytes(CachedResume entry) {
+    if (entry.size() > memoryMaxEntrySize) {
+      return null;
+    }
+    try {
+      return memory.get(entry.file(), ResumeFileCache::readFile);
+    } catch (UncheckedIOException ex) {
+      return null;
+    }
+  }
+
+  /** Drops an entry whose body file has gone missing (e.g. deleted by hand). */
+  public void discard(CachedResume entry) {
+    evict(entry.key(), entry);
+  }
+
+  /** Drops every cached file for {@code language}, e.g. after a new resume was uploaded. */
+  public void purge(String language) {
+    for (CachedResume entry : entries.values()) {
+      if (entry.key().language().equals(language)) {
+        evict(entry.key(), entry);
+      }
+    }
+  }
+
+  private void revalidate(ResumeKey key, String url) {
+    try {
+      synchronized (lock(key)) {
+        CachedResume current = entries.get(key);
+        if (current != null) {
+          fetch(key, url, current);
+        }
+      }
+    } catch (RestClientException ex) {
+      log.warn("Resume revalidation failed for {}, serving stale copy: {}", key, ex.getMessage());
+    } finally {
+      revalidating.remove(key);
+    }
+  }
+
+  private CachedResume fetch(ResumeKey key, String url, CachedResume previous) {
+    try {
+      return restTemplate.execute(
+          url,
+          HttpMethod.GET,
+          request -> {
+            if (previous != null && previous.etag() != null) {
+              request.getHeaders().setIfNoneMatch(previous.etag());
+            }
+            if (previous != null && previous.lastModified() != null) {
+              request.getHeaders().set(HttpHeaders.IF_MODIFIED_SINCE, previous.lastModified());
+            }
+          },
+          response -> {
+            if (previous != null && response.getStatusCode().value() == 304) {
+              return store(previous.refreshed(Instant.now()));
+            }
+            Path temp = Files.createTempFile(directory, "download-", ".tmp");
+            try (InputStream body = response.getBody()) {
+              long size = Files.copy(body, temp, StandardCopyOption.REPLACE_EXISTING);
+              return replace(key, temp, size, response.getHeaders());
+            } finally {
+              Files.deleteIfExists(temp);
+            }
+          });
+    } catch (HttpClientErrorException ex) {
+      if (previous != null) {
+        evict(key, previous);
+      }
+      return null;
+    }
+  }
+
+  private CachedResume replace(ResumeKey key, Path temp, long size, HttpHeaders headers)
+      throws IOException {
+    Path file = directory.resolve(key.fileStem() + "-" + UUID.randomUUID() + BODY_SUFFIX);
+    Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+    CachedResume entry =
+        new CachedResume(
+            key,
+            file,
+            size,
+            contentType(headers),
+            headers.getETag(),
+            headers.getFirst(HttpHeaders.LAST_MODIFIED),
+            Instant.now());
+    CachedResume previous = entries.get(key);
+    store(entry);
+    if (previous != null && !previous.file().equals(file)) {
+      memory.invalidate(previous.file());
+      Files.deleteIfExists(previous.file());
+    }
+    return entry;
+  }
+
+  private CachedResume store(CachedResume entry) throws IOException {
+    Properties meta = new Properties();
+    meta.setProperty("language", entry.key().language());
+    meta.setProperty("path", entry.key().path());
+    meta.setProperty("file", entry.file().getFileName().toString());
+    meta.setProperty("size", Long.toString(entry.size()));
+    meta.setProperty("contentType", entry.contentType());
+    meta.setProperty("fetchedAt", entry.fetchedAt().toString());
+    if (entry.etag() != null) {
+      meta.setProperty("etag", entry.etag());
+    }
+    if (entry.lastModified() != null) {
+      meta.setProperty("lastModified", entry.lastModified());
+    }
+    Path metaFile = directory.resolve(entry.key().fileStem() + META_SUFFIX);
+    Path temp = Files.createTempFile(directory, "meta-", ".tmp");
+    try (OutputStream out = Files.newOutputStream(temp)) {
+      meta.store(out, null);
+    }
+    Files.move(
+        temp, metaFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    entries.put(entry.key(), entry);
+    return entry;
+  }
+
+  private void evict(ResumeKey key, CachedResume entry) {
+    entries.remove(key, entry);
+    memory.invalidate(entry.file());
+    try {
+      Files.deleteIfExists(directory.resolve(key.fileStem() + META_SUFFIX));
+      Files.deleteIfExists(entry.file());
+    } catch (IOException ex) {
+      log.warn("Failed to delete cached resume {}: {}", entry.file(), ex.getMessage());
+    }
+  }
+
+  private void loadIndex() {
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException ex) {
+      throw new IllegalStateException("Resume cache directory is not writable: " + directory, ex);
+    }
+    try (DirectoryStream<Path> metaFiles =
+        Files.newDirectoryStream(directory, "*" + META_SUFFIX)) {
+      for (Path metaFile : metaFiles) {
+        Properties meta = new Properties();
+        try (InputStream in = Files.newInputStream(metaFile)) {
+          meta.load(in);
+          ResumeKey key = new ResumeKey(meta.getProperty("language"), meta.getProperty("path"));
+          Path file = directory.resolve(meta.getProperty("file"));
+          if (Files.isRegularFile(file)) {
+            entries.put(
+                key,
+                new CachedResume(
+                    key,
+                    file,
+                    Long.parseLong(meta.getProperty("size")),
+                    meta.getProperty("contentType"),
+                    meta.getProperty("etag"),
+                    meta.getProperty("lastModified"),
+                    Instant.parse(meta.getProperty("fetchedAt"))));
+          }
+        } catch (IOException | RuntimeException ex) {
+          log.warn("Ignoring unreadable resume cache entry {}: {}", metaFile, ex.getMessage());
+        }
+      }
+    } catch (IOException ex) {
+      log.warn("Failed to read resume cache directory {}: {}", directory, ex.getMessage());
+    }
+  }
+
+  private Object lock(ResumeKey key) {
+    return locks.computeIfAbsent(key, k -> new Object());
+  }
+
+  private static String contentType(HttpHeaders headers) {
+    MediaType mediaType = headers.getContentType();
+    return mediaType != null ? mediaType.toString() : MediaType.APPLICATION_PDF_VALUE;
+  }
+
+  private static byte[] readFile(Path file) {
+    try {
+      return Files.readAllBytes(file);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    revalidator.shutdownNow();
+  }
+
+  /** A write to the client failed, as opposed to a read from storage. */
+  private static final class ClientAbortedException extends IOException {
+
+    private ClientAbortedException(IOException cause) {
+      super(cause);
+    }
+  }
+
+  /** Receives an upstream body that is being streamed through the cache. */
+  public interface UpstreamTarget {
+
+    OutputStream open(long size, String contentType, String lastModified) throws IOException;
+  }
+
+  public record ResumeKey(String language, String path) {
+
+    String fileStem() {
+      return language + "-" + DigestUtils.md5DigestAsHex(path.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  public record CachedResume(
+      ResumeKey key,
+      Path file,
+      long size,
+      String contentType,
+      String etag,
+      String lastModified,
+      Instant fetchedAt) {
+
+    CachedResume refreshed(Instant now) {
+      return new CachedResume(key, file, size, contentType, etag, lastModified, now);
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package com.portfolio.monolith.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Remembers which candidate path holds the resume for each language. On a miss every candidate
+ * is probed concurrently and the first existing one in priority order wins; "no file at all" is
+ * cached for the shorter {@code negative-ttl}. Results that depend on a failed probe are not
+ * cached, since a higher-priority path may exist.
+ */
+@Service
+public class ResumePathIndex {
+
+  private static final Logger log = LoggerFactory.getLogger(ResumePathIndex.class);
+
+  private final Cache<String, Resolution> index;
+  private final ExecutorService prober;
+
+  public ResumePathIndex(
+      @Value("${app.resume.path-index.ttl:10m}") Duration ttl,
+      @Value("${app.resume.path-index.negative-ttl:1m}") Duration negativeTtl,
+      @Value("${app.resume.path-index.parallelism:3}") int parallelism) {
+    this.index =
+        Caffeine.newBuilder()
+            .expireAfter(
+                new Expiry<String, Resolution>() {
+                  @Override
+                  public long expireAfterCreate(
+                      String language, Resolution resolution, long currentTime) {
+                    if (!resolution.certain()) {
+                      return 0;
+                    }
+                    return (resolution.path() != null ? ttl : negativeTtl).toNanos();
+                  }
+
+                  @Override
+                  public long expireAfterUpdate(
+                      String language,
+                      Resolution resolution,
+                      long currentTime,
+                      long currentDuration) {
+                    return expireAfterCreate(language, resolution, currentTime);
+                  }
+
+                  @Override
+                  public long expireAfterRead(
+                      String language,
+                      Resolution resolution,
+                      long currentTime,
+                      long currentDuration) {
+                    return currentDuration;
+                  }
+                })
+            .build();
+    this.prober =
+        Executors.newFixedThreadPool(
+            Math.max(1, parallelism), new CustomizableThreadFactory("resume-probe-"));
+  }
+
+  /**
+   * Returns the first path of {@code candidates} that {@code exists}, or null when none does.
+   * {@code exists} returns false for a missing object and throws for any other failure.
+   */
+  public String resolve(String language, List<String> candidates, Predicate<String> exists) {
+    return index.get(language, lang -> probe(lang, candidates, exists)).path();
+  }
+
+  /** Records a path known to exist, e.g. right after an upload. */
+  public void put(String language, String path) {
+    index.put(language, new Resolution(path, true));
+  }
+
+  public void invalidate(String language) {
+    index.invalidate(language);
+  }
+
+  private Resolution probe(String language, List<String> candidates, Predicate<String> exists) {
+    List<CompletableFuture<Boolean>> probes = new ArrayList<>(candidates.size());
+    for (String path : candidates) {
+      probes.add(CompletableFuture.supplyAsync(() -> exists.test(path), prober));
+    }
+
+    boolean certain = true;
+    try {
+      for (int i = 0; i < candidates.size(); i++) {
+        try {
+          if (probes.get(i).join()) {
+            return new Resolution(candidates.get(i), certain);
+          }
+        } catch (CompletionException ex) {
+          log.warn(
+              "Resume probe failed for {} ({}): {}",
+              candidates.get(i),
+              language,
+              ex.getCause().getMessage());
+          certain = false;
+        }
+      }
+      return new Resolution(null, certain);
+    } finally {
+      for (CompletableFuture<Boolean> pending : probes) {
+        pending.cancel(false);
+      }
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    prober.shutdownNow();
+  }
+
+  private record Resolution(String path, boolean certain) {}
+}
@@ -4,6 +4,8 @@ import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -11,6 +13,7 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
 
+import com.portfolio.monolith.config.CacheNames;
 import com.portfolio.monolith.dto.SkillDto;
 import com.portfolio.monolith.exception.NotFoundException;
 
@@ -23,6 +26,7 @@ public class SkillDataService {
     this.jdbc = jdbc;
   }
 
+  @Cacheable(cacheNames = CacheNames.SKILLS, key = CacheNames.ALL_KEY, sync = true)
   public List<SkillDto> getAllSkills() {
     String sql = "select * from public.skills order by category asc, name_en asc";
     return jdbc.query(sql, rowMapper());
@@ -38,6 +42,7 @@ public class SkillDataService {
     return jdbc.query(sql, new MapSqlParameterSource("category", category), rowMapper());
   }
 
+  @CacheEvict(cacheNames = CacheNames.SKILLS, allEntries = true)
   public SkillDto createSkill(SkillDto dto) {
     String sql =
         "insert into public.skills ("
@@ -63,6 +68,7 @@ public class SkillDataService {
     return jdbc.queryForObject(sql, p, rowMapper());
   }
 
+  @CacheEvict(cacheNames = CacheNames.SKILLS, allEntries = true)
   public SkillDto updateSkill(Long id, SkillDto dto) {
     String sql =
         "update public.skills set "
@@ -87,6 +93,7 @@ public class SkillDataService {
     return queryOne(sql, p, "Skill not found");
   }
 
+  @CacheEvict(cacheNames = CacheNames.SKILLS, allEntries = true)
   public void deleteSkill(Long id) {
     String sql = "delete from public.skills where id = :id";
     int rows = jdbc.update(sql, new MapSqlParameterSource("id", id));
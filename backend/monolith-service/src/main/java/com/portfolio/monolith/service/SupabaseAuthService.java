@@ -3,16 +3,16 @@ package com.portfolio.monolith.service;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
@@ -26,24 +26,35 @@ import com.portfolio.monolith.security.AuthenticatedUser;
 @Service
 public class SupabaseAuthService {
 
+  private static final Logger log = LoggerFactory.getLogger(SupabaseAuthService.class);
+
   private final RestTemplate restTemplate;
-  private final NamedParameterJdbcTemplate jdbc;
+  private final AdminUserDirectory adminDirectory;
+  private final AuthTokenCache tokenCache;
+  private final SupabaseJwtVerifier jwtVerifier;
 
   private final String supabaseUrl;
   private final String anonKey;
   private final String authCookieName;
+  private final String verificationMode;
 
   public SupabaseAuthService(
-      RestTemplate restTemplate,
-      NamedParameterJdbcTemplate jdbc,
+      @Qualifier("supabaseAuthRestTemplate") RestTemplate restTemplate,
+      AdminUserDirectory adminDirectory,
+      AuthTokenCache tokenCache,
+      SupabaseJwtVerifier jwtVerifier,
       @Value("${supabase.url}") String supabaseUrl,
       @Value("${supabase.anon-key}") String anonKey,
-      @Value("${supabase.auth-cookie-name:vp_auth_token}") String authCookieName) {
+      @Value("${supabase.auth-cookie-name:vp_auth_token}") String authCookieName,
+      @Value("${app.auth.token-verification:remote}") String verificationMode) {
     this.restTemplate = restTemplate;
-    this.jdbc = jdbc;
+    this.adminDirectory = adminDirectory;
+    this.tokenCache = tokenCache;
+    this.jwtVerifier = jwtVerifier;
     this.supabaseUrl = trimTrailingSlash(supabaseUrl);
     this.anonKey = anonKey;
     this.authCookieName = authCookieName;
+    this.verificationMode = verificationMode.trim().toLowerCase();
   }
 
   public LoginResult login(String email, String password) {
@@ -87,7 +98,43 @@ public class SupabaseAuthService {
     if (isBlank(token)) {
       throw new UnauthorizedException("Authentication token is missing");
     }
+    return tokenCache.get(token, this::validateToken);
+  }
+
+  public void logout(String token) {
+    if (!isBlank(token)) {
+      tokenCache.invalidate(token);
+    }
+  }
+
+  private AuthenticatedUser validateToken(String token) {
+    return switch (verificationMode) {
+      case "local" -> verifyLocally(token);
+      case "local-with-remote-fallback" -> {
+        try {
+          yield verifyLocally(token);
+        } catch (SupabaseJwtVerifier.KeyUnavailableException ex) {
+          log.debug("Local token verification unavailable, asking Supabase: {}", ex.getMessage());
+          yield fetchUserFromToken(token);
+        }
+      }
+      default -> fetchUserFromToken(token);
+    };
+  }
+
+  private AuthenticatedUser verifyLocally(String token) {
+    try {
+      return mapClaims(jwtVerifier.verify(token));
+    } catch (SupabaseJwtVerifier.KeyUnavailableException ex) {
+      if ("local".equals(verificationMode)) {
+        log.warn("Local token verification unavailable: {}", ex.getMessage());
+        throw new UnauthorizedException("Invalid authentication token");
+      }
+      throw ex;
+    }
+  }
 
+  private AuthenticatedUser fetchUserFromToken(String token) {
     String meUrl = supabaseUrl + "/auth/v1/user";
     HttpHeaders headers = baseHeaders();
     headers.setBearerAuth(token);
@@ -110,36 +157,29 @@ public class SupabaseAuthService {
   }
 
   private AuthenticatedUser mapUserNode(JsonNode userNode) {
-    String userId = textOrNull(userNode.path("id"));
-    String email = textOrNull(userNode.path("email"));
-    String fullName = textOrNull(userNode.path("user_metadata").path("full_name"));
+    return toAuthenticatedUser(
+        textOrNull(userNode.path("id")),
+        textOrNull(userNode.path("email")),
+        textOrNull(userNode.path("user_metadata").path("full_name")));
+  }
 
+  private AuthenticatedUser mapClaims(JsonNode claims) {
+    return toAuthenticatedUser(
+        textOrNull(claims.path("sub")),
+        textOrNull(claims.path("email")),
+        textOrNull(claims.path("user_metadata").path("full_name")));
+  }
+
+  private AuthenticatedUser toAuthenticatedUser(String userId, String email, String fullName) {
     if (isBlank(fullName) && !isBlank(email)) {
       int at = email.indexOf('@');
       fullName = at > 0 ? email.substring(0, at) : email;
     }
 
-    boolean isAdmin = isAdminUser(userId);
+    boolean isAdmin = adminDirectory.isAdmin(userId);
     return new AuthenticatedUser(userId, email, fullName, isAdmin);
   }
 
-  private boolean isAdminUser(String userId) {
-    if (isBlank(userId)) {
-      return false;
-    }
-
-    String sql =
-        "select exists(select 1 from public.admin_users where user_id = cast(:userId as uuid))";
-
-    try {
-      Boolean exists =
-          jdbc.queryForObject(sql, new MapSqlParameterSource("userId", userId), Boolean.class);
-      return Boolean.TRUE.equals(exists);
-    } catch (DataAccessException ex) {
-      return false;
-    }
-  }
-
   private AuthUserResponse toUserResponse(AuthenticatedUser user) {
     AuthUserResponse dto = new AuthUserResponse();
     dto.id = user.getId();
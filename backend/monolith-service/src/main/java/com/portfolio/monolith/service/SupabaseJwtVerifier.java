@@ -0,0 +1,285 @@
+package com.portfolio.monolith.service;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.monolith.exception.UnauthorizedException;
+
+/**
+ * Verifies Supabase access tokens without calling the auth server: HS256 with the project's JWT
+ * secret, or RS256/ES256 with keys from the project's JWKS (fetched once, refetched when an
+ * unknown {@code kid} shows up). Asymmetric tokens without a {@code kid} are rejected. {@code
+ * exp}, {@code nbf}, {@code aud} and {@code iss} are checked against the configured project.
+ */
+@Service
+public class SupabaseJwtVerifier {
+
+  private static final Logger log = LoggerFactory.getLogger(SupabaseJwtVerifier.class);
+
+  private final RestTemplate restTemplate;
+  private final ObjectMapper objectMapper;
+  private final String issuer;
+  private final String jwksUrl;
+  private final byte[] secret;
+  private final String audience;
+  private final Duration clockSkew;
+  private final Duration jwksRefreshInterval;
+
+  private volatile Map<String, PublicKey> jwks = Map.of();
+  private volatile Instant jwksFetchedAt = Instant.EPOCH;
+
+  public SupabaseJwtVerifier(
+      @Qualifier("supabaseAuthRestTemplate") RestTemplate restTemplate,
+      ObjectMapper objectMapper,
+      @Value("${supabase.url}") String supabaseUrl,
+      @Value("${supabase.jwt-secret:}") String secret,
+      @Value("${app.auth.jwt.audience:authenticated}") String audience,
+      @Value("${app.auth.jwt.clock-skew:30s}") Duration clockSkew,
+      @Value("${app.auth.jwt.jwks-refresh-interval:5m}") Duration jwksRefreshInterval) {
+    this.restTemplate = restTemplate;
+    this.objectMapper = objectMapper;
+    String baseUrl = supabaseUrl == null ? "" : supabaseUrl.trim().replaceAll("/+$", "");
+    this.issuer = baseUrl + "/auth/v1";
+    this.jwksUrl = issuer + "/.well-known/jwks.json";
+    this.secret =
+        secret == null || secret.isBlank() ? null : secret.getBytes(StandardCharsets.UTF_8);
+    this.audience = audience;
+    this.clockSkew = clockSkew;
+    this.jwksRefreshInterval = jwksRefreshInterval;
+  }
+
+  /**
+   * Returns the verified claims. Throws {@link UnauthorizedException} for a token that is invalid
+   * and {@link KeyUnavailableException} when it cannot be checked locally (unsupported algorithm,
+   * no secret configured, or JWKS unreachable).
+   */
+  public JsonNode verify(String token) {
+    String[] parts = token.split("\\.");
+    if (parts.length != 3) {
+      throw new UnauthorizedException("Invalid authentication token");
+    }
+
+    JsonNode header = decode(parts[0]);
+    JsonNode claims = decode(parts[1]);
+    byte[] signature = base64Url(parts[2]);
+    byte[] signingInput = (parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII);
+
+    String alg = header.path("alg").asText("");
+    boolean valid =
+        switch (alg) {
+          case "HS256" -> verifyHmac(signingInput, signature);
+          case "RS256" -> verifySignature(
+              "SHA256withRSA", key(header.path("kid").asText(null)), signingInput, signature);
+          case "ES256" -> verifySignature(
+              "SHA256withECDSAinP1363Format",
+              key(header.path("kid").asText(null)),
+              signingInput,
+              signature);
+          default -> throw new KeyUnavailableException("Unsupported JWT algorithm " + alg);
+        };
+    if (!valid) {
+      throw new UnauthorizedException("Invalid authentication token");
+    }
+
+    checkClaims(claims);
+    return claims;
+  }
+
+  private void checkClaims(JsonNode claims) {
+    Instant now = Instant.now();
+    long exp = claims.path("exp").asLong(0);
+    if (exp == 0 || Instant.ofEpochSecond(exp).plus(clockSkew).isBefore(now)) {
+      throw new UnauthorizedException("Authentication token has expired");
+    }
+    long nbf = claims.path("nbf").asLong(0);
+    if (nbf != 0 && Instant.ofEpochSecond(nbf).minus(clockSkew).isAfter(now)) {
+      throw new UnauthorizedException("Invalid authentication token");
+    }
+    if (!issuer.equals(claims.path("iss").asText(null))) {
+      throw new UnauthorizedException("Invalid authentication token");
+    }
+    if (!hasAudience(claims.path("aud"))) {
+      throw new UnauthorizedException("Invalid authentication token");
+    }
+    if (claims.path("sub").asText("").isBlank()) {
+      throw new UnauthorizedException("Invalid authentication token");
+    }
+  }
+
+  private boolean hasAudience(JsonNode aud) {
+    if (aud.isArray()) {
+      for (JsonNode value : aud) {
+        if (audience.equals(value.asText())) {
+          return true;
+        }
+      }
+      return false;
+    }
+    return audience.equals(aud.asText(null));
+  }
+
+  private boolean verifyHmac(byte[] signingInput, byte[] signature) {
+    if (secret == null) {
+      throw new KeyUnavailableException("supabase.jwt-secret is not configured");
+    }
+    try {
+      Mac mac = Mac.getInstance("HmacSHA256");
+      mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+      return MessageDigest.isEqual(mac.doFinal(signingInput), signature);
+    } catch (GeneralSecurityException ex) {
+      throw new KeyUnavailableException("HmacSHA256 is not available");
+    }
+  }
+
+  private static boolean verifySignature(
+      String algorithm, PublicKey key, byte[] signingInput, byte[] signature) {
+    try {
+      Signature verifier = Signature.getInstance(algorithm);
+      verifier.initVerify(key);
+      verifier.update(signingInput);
+      return verifier.verify(signature);
+    } catch (GeneralSecurityException ex) {
+      return false;
+    }
+  }
+
+  private PublicKey key(String kid) {
+    if (kid == null || kid.isBlank()) {
+      throw new UnauthorizedException("Invalid authentication token");
+    }
+    PublicKey key = jwks.get(kid);
+    if (key != null) {
+      return key;
+    }
+    // Unknown kid: the project may have rotated its keys. Refetch, but not on every bad token.
+    synchronized (this) {
+      key = jwks.get(kid);
+      if (key == null && jwksFetchedAt.plus(jwksRefreshInterval).isBefore(Instant.now())) {
+        jwks = fetchJwks();
+        jwksFetchedAt = Instant.now();
+        key = jwks.get(kid);
+      }
+    }
+    if (key == null) {
+      if (jwks.isEmpty()) {
+        throw new KeyUnavailableException("No JWKS keys available");
+      }
+      throw new UnauthorizedException("Invalid authentication token");
+    }
+    return key;
+  }
+
+  private Map<String, PublicKey> fetchJwks() {
+    JsonNode body;
+    try {
+      body = restTemplate.getForObject(jwksUrl, JsonNode.class);
+    } catch (RestClientException ex) {
+      log.warn("Failed to fetch JWKS from {}: {}", jwksUrl, ex.getMessage());
+      return jwks;
+    }
+
+    Map<String, PublicKey> keys = new HashMap<>();
+    if (body != null) {
+      for (JsonNode jwk : body.path("keys")) {
+        String kid = jwk.path("kid").asText("");
+        if (kid.isBlank()) {
+          // Tokens are matched to keys by kid, so a key without one can never be selected.
+          log.warn("Ignoring JWK without a kid from {}", jwksUrl);
+          continue;
+        }
+        try {
+          PublicKey key = toPublicKey(jwk);
+          if (key != null) {
+            keys.put(kid, key);
+          }
+        } catch (GeneralSecurityException | IllegalArgumentException ex) {
+          log.warn("Ignoring unusable JWK {}: {}", kid, ex.getMessage());
+        }
+      }
+    }
+    return Map.copyOf(keys);
+  }
+
+  private static PublicKey toPublicKey(JsonNode jwk) throws GeneralSecurityException {
+    switch (jwk.path("kty").asText("")) {
+      case "RSA" -> {
+        RSAPublicKeySpec spec =
+            new RSAPublicKeySpec(
+                unsigned(jwk.path("n").asText()), unsigned(jwk.path("e").asText()));
+        return KeyFactory.getInstance("RSA").generatePublic(spec);
+      }
+      case "EC" -> {
+        if (!"P-256".equals(jwk.path("crv").asText())) {
+          return null;
+        }
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec("secp256r1"));
+        ECPoint point =
+            new ECPoint(unsigned(jwk.path("x").asText()), unsigned(jwk.path("y").asText()));
+        ECPublicKeySpec spec =
+            new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class));
+        return KeyFactory.getInstance("EC").generatePublic(spec);
+      }
+      default -> {
+        return null;
+      }
+    }
+  }
+
+  private JsonNode decode(String part) {
+    try {
+      return objectMapper.readTree(base64Url(part));
+    } catch (Exception ex) {
+      throw new UnauthorizedException("Invalid authentication token");
+    }
+  }
+
+  private static byte[] base64Url(String value) {
+    try {
+      return Base64.getUrlDecoder().decode(value);
+    } catch (IllegalArgumentException ex) {
+      throw new UnauthorizedException("Invalid authentication token");
+    }
+  }
+
+  private static BigInteger unsigned(String value) {
+    return new BigInteger(1, Base64.getUrlDecoder().decode(value));
+  }
+
+  /** The token could not be checked locally; callers may fall back to the auth server. */
+  public static class KeyUnavailableException extends RuntimeException {
+
+    public KeyUnavailableException(String message) {
+      super(message);
+    }
+  }
+}
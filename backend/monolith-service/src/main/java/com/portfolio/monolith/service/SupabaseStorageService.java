@@ -1,13 +1,26 @@
 package com.portfolio.monolith.service;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -15,11 +28,19 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.StreamingHttpOutputMessage;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.portfolio.monolith.exception.ApiException;
 import com.portfolio.monolith.exception.BadRequestException;
 import com.portfolio.monolith.exception.NotFoundException;
@@ -27,32 +48,51 @@ import com.portfolio.monolith.exception.NotFoundException;
 @Service
 public class SupabaseStorageService {
 
+  private static final byte[] PDF_MAGIC = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+  private static final int UPLOAD_BUFFER_SIZE = 64 * 1024;
+
   private final RestTemplate restTemplate;
+  private final ResumeFileCache fileCache;
+  private final ResumePathIndex pathIndex;
   private final String supabaseUrl;
   private final String serviceRoleKey;
   private final String bucket;
   private final String fileEn;
   private final String fileFr;
   private final String fileEs;
+  private final DataSize maxUploadSize;
+  private final Cache<String, ResumeMetadata> metadataCache;
 
   public SupabaseStorageService(
-      RestTemplate restTemplate,
+      @Qualifier("supabaseStorageRestTemplate") RestTemplate restTemplate,
+      ResumeFileCache fileCache,
+      ResumePathIndex pathIndex,
       @Value("${supabase.url}") String supabaseUrl,
       @Value("${supabase.service-role-key:}") String serviceRoleKey,
       @Value("${app.resume.bucket:resumes}") String bucket,
       @Value("${app.resume.file-en:resume_en.pdf}") String fileEn,
       @Value("${app.resume.file-fr:resume_fr.pdf}") String fileFr,
-      @Value("${app.resume.file-es:resume_es.pdf}") String fileEs) {
+      @Value("${app.resume.file-es:resume_es.pdf}") String fileEs,
+      @Value("${app.resume.metadata-ttl:5m}") Duration metadataTtl,
+      @Value("${app.resume.upload.max-size:10MB}") DataSize maxUploadSize) {
     this.restTemplate = restTemplate;
+    this.fileCache = fileCache;
+    this.pathIndex = pathIndex;
     this.supabaseUrl = trimTrailingSlash(supabaseUrl);
     this.serviceRoleKey = serviceRoleKey;
     this.bucket = bucket;
     this.fileEn = fileEn;
     this.fileFr = fileFr;
     this.fileEs = fileEs;
+    this.maxUploadSize = maxUploadSize;
+    this.metadataCache = Caffeine.newBuilder().expireAfterWrite(metadataTtl).build();
   }
 
-  public String uploadResume(MultipartFile file, String language) {
+  /**
+   * Streams the multipart part to storage through a fixed-size buffer, validating the PDF magic
+   * bytes before the upstream request starts and hashing the body (SHA-256) on the way through.
+   */
+  public UploadResult uploadResume(MultipartFile file, String language) {
     ensureConfiguredForUpload();
 
     if (file == null || file.isEmpty()) {
@@ -64,99 +104,217 @@ public class SupabaseStorageService {
       throw new BadRequestException("Only PDF files are allowed");
     }
 
+    long size = file.getSize();
+    if (size > maxUploadSize.toBytes()) {
+      throw new BadRequestException("File exceeds the maximum size of " + maxUploadSize);
+    }
+
     String lang = resolveLanguage(language);
     String path = configuredPath(lang);
 
-    byte[] payload;
-    try {
-      payload = file.getBytes();
-    } catch (IOException ex) {
-      throw new ApiException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to read uploaded file");
-    }
-
     String url =
         supabaseUrl + "/storage/v1/object/" + encodePathSegment(bucket) + "/" + encodePath(path);
 
-    HttpHeaders headers = new HttpHeaders();
-    headers.set("apikey", serviceRoleKey);
-    headers.setBearerAuth(serviceRoleKey);
-    headers.set("x-upsert", "true");
-    headers.setContentType(MediaType.APPLICATION_PDF);
-
-    try {
-      ResponseEntity<String> response =
-          restTemplate.exchange(
-              url, HttpMethod.POST, new HttpEntity<>(payload, headers), String.class);
-      if (!response.getStatusCode().is2xxSuccessful()) {
-        throw new ApiException(HttpStatus.BAD_GATEWAY, "Failed to upload resume");
+    MessageDigest digest = sha256();
+    try (InputStream input = new BufferedInputStream(file.getInputStream())) {
+      input.mark(PDF_MAGIC.length);
+      if (!Arrays.equals(input.readNBytes(PDF_MAGIC.length), PDF_MAGIC)) {
+        throw new BadRequestException("Only PDF files are allowed");
       }
-      return path;
-    } catch (HttpStatusCodeException ex) {
+      input.reset();
+      InputStream body = new DigestInputStream(input, digest);
+
+      restTemplate.execute(
+          url,
+          HttpMethod.POST,
+          request -> {
+            HttpHeaders headers = request.getHeaders();
+            headers.set("apikey", serviceRoleKey);
+            headers.setBearerAuth(serviceRoleKey);
+            headers.set("x-upsert", "true");
+            headers.setContentType(MediaType.APPLICATION_PDF);
+            headers.setContentLength(size);
+            if (request instanceof StreamingHttpOutputMessage streaming) {
+              streaming.setBody(out -> copyLimited(body, out, size));
+            } else {
+              copyLimited(body, request.getBody(), size);
+            }
+          },
+          response -> {
+            if (!response.getStatusCode().is2xxSuccessful()) {
+              throw new ApiException(HttpStatus.BAD_GATEWAY, "Failed to upload resume");
+            }
+            return null;
+          });
+    } catch (HttpStatusCodeException | ResourceAccessException ex) {
       throw new ApiException(HttpStatus.BAD_GATEWAY, "Failed to upload resume");
+    } catch (IOException ex) {
+      throw new ApiException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to read uploaded file");
     }
+
+    fileCache.purge(lang);
+    metadataCache.invalidate(lang);
+    pathIndex.put(lang, path);
+    return new UploadResult(path, size, HexFormat.of().formatHex(digest.digest()));
   }
 
-  public DownloadResult downloadResume(String language) {
+  /**
+   * Writes the resume to {@code sink}: from the local file cache when it holds a copy, otherwise
+   * streamed through from storage while the cache is filled. Sinks that need random access get
+   * the cache filled first instead.
+   */
+  public void downloadResume(String language, ResumeSink sink) throws IOException {
     if (isBlank(supabaseUrl)) {
       throw new ApiException(HttpStatus.INTERNAL_SERVER_ERROR, "Supabase URL is not configured");
     }
 
     String lang = resolveLanguage(language);
 
-    for (String path : candidatePaths(lang)) {
-      String url =
-          supabaseUrl
-              + "/storage/v1/object/public/"
-              + encodePathSegment(bucket)
-              + "/"
-              + encodePath(path);
-
-      try {
-        ResponseEntity<byte[]> response =
-            restTemplate.exchange(url, HttpMethod.GET, HttpEntity.EMPTY, byte[].class);
-        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-          return new DownloadResult(response.getBody(), fileName(path));
-        }
-      } catch (HttpStatusCodeException ex) {
-        // Try next path.
+    // A second attempt covers an index entry that points at an object deleted since.
+    for (int attempt = 0; attempt < 2; attempt++) {
+      String path = resolvePath(lang);
+      if (path == null) {
+        break;
       }
+      if (writeResume(lang, path, sink)) {
+        return;
+      }
+      pathIndex.invalidate(lang);
     }
 
     throw new NotFoundException("Resume file not found");
   }
 
+  private boolean writeResume(String lang, String path, ResumeSink sink) throws IOException {
+    String url = publicObjectUrl(path);
+    ResumeFileCache.ResumeKey key = new ResumeFileCache.ResumeKey(lang, path);
+    String fileName = fileName(path);
+
+    try {
+      ResumeFileCache.CachedResume cached = fileCache.peek(key, url);
+      if (cached != null && sink.sendCached(cached, fileName)) {
+        return true;
+      }
+      if (sink.requiresCachedCopy()) {
+        cached = fileCache.get(key, url);
+        return cached != null && sink.sendCached(cached, fileName);
+      }
+      return fileCache.streamThrough(
+          key,
+          url,
+          (size, contentType, lastModified) ->
+              sink.openUpstream(fileName, size, contentType, lastModified));
+    } catch (HttpClientErrorException ex) {
+      return false;
+    }
+  }
+
   public ResumeMetadata getCurrentResume(String language) {
     if (isBlank(supabaseUrl)) {
       throw new ApiException(HttpStatus.INTERNAL_SERVER_ERROR, "Supabase URL is not configured");
     }
 
     String lang = resolveLanguage(language);
+    ResumeMetadata cached = metadataCache.getIfPresent(lang);
+    if (cached != null) {
+      return cached;
+    }
 
-    for (String path : candidatePaths(lang)) {
-      String url =
-          supabaseUrl
-              + "/storage/v1/object/public/"
-              + encodePathSegment(bucket)
-              + "/"
-              + encodePath(path);
-
-      try {
-        ResponseEntity<byte[]> response =
-            restTemplate.exchange(url, HttpMethod.GET, HttpEntity.EMPTY, byte[].class);
-        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-          MediaType mediaType = response.getHeaders().getContentType();
-          String contentType =
-              mediaType != null ? mediaType.toString() : MediaType.APPLICATION_PDF_VALUE;
-          return new ResumeMetadata(fileName(path), path, contentType, response.getBody().length);
-        }
-      } catch (HttpStatusCodeException ex) {
-        // Try next path.
+    for (int attempt = 0; attempt < 2; attempt++) {
+      String path = resolvePath(lang);
+      if (path == null) {
+        break;
       }
+      ResumeMetadata metadata = lookupMetadata(path);
+      if (metadata != null) {
+        metadataCache.put(lang, metadata);
+        return metadata;
+      }
+      pathIndex.invalidate(lang);
     }
 
     throw new NotFoundException("Resume file not found");
   }
 
+  private String resolvePath(String lang) {
+    return pathIndex.resolve(lang, candidatePaths(lang), this::objectExists);
+  }
+
+  private boolean objectExists(String path) {
+    try {
+      restTemplate.headForHeaders(publicObjectUrl(path));
+      return true;
+    } catch (HttpClientErrorException ex) {
+      // Storage answers a missing public object with 400 as well as 404, so any 4xx is a
+      // definite miss; 5xx and I/O errors propagate and leave the resolution uncertain.
+      return false;
+    }
+  }
+
+  private ResumeMetadata lookupMetadata(String path) {
+    String infoUrl =
+        supabaseUrl
+            + "/storage/v1/object/info/public/"
+            + encodePathSegment(bucket)
+            + "/"
+            + encodePath(path);
+    try {
+      ResponseEntity<JsonNode> response =
+          restTemplate.exchange(infoUrl, HttpMethod.GET, HttpEntity.EMPTY, JsonNode.class);
+      if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+        return fromObjectInfo(path, response.getBody());
+      }
+    } catch (HttpClientErrorException.NotFound ex) {
+      return null;
+    } catch (RestClientException ex) {
+      // Older storage versions have no info endpoint (and answer 400); fall back to a HEAD on the
+      // object, where any 4xx is a miss.
+    }
+
+    try {
+      HttpHeaders headers = restTemplate.headForHeaders(publicObjectUrl(path));
+      MediaType mediaType = headers.getContentType();
+      long lastModified = headers.getLastModified();
+      return new ResumeMetadata(
+          null,
+          fileName(path),
+          path,
+          mediaType != null ? mediaType.toString() : MediaType.APPLICATION_PDF_VALUE,
+          headers.getContentLength(),
+          lastModified > 0 ? Instant.ofEpochMilli(lastModified) : null);
+    } catch (HttpStatusCodeException ex) {
+      return null;
+    }
+  }
+
+  private static ResumeMetadata fromObjectInfo(String path, JsonNode info) {
+    JsonNode metadata = info.path("metadata");
+    JsonNode size = info.hasNonNull("size") ? info.get("size") : metadata.path("size");
+    String contentType = textOrNull(info.path("content_type"));
+    if (contentType == null) {
+      contentType = textOrNull(metadata.path("mimetype"));
+    }
+    String uploadedAt = textOrNull(info.path("last_modified"));
+    if (uploadedAt == null) {
+      uploadedAt = textOrNull(info.path("created_at"));
+    }
+    return new ResumeMetadata(
+        textOrNull(info.path("id")),
+        fileName(path),
+        path,
+        contentType != null ? contentType : MediaType.APPLICATION_PDF_VALUE,
+        size.asLong(-1),
+        parseInstant(uploadedAt));
+  }
+
+  private String publicObjectUrl(String path) {
+    return supabaseUrl
+        + "/storage/v1/object/public/"
+        + encodePathSegment(bucket)
+        + "/"
+        + encodePath(path);
+  }
+
   private List<String> candidatePaths(String language) {
     Set<String> paths = new LinkedHashSet<>();
     paths.add(configuredPath(language));
@@ -195,6 +353,48 @@ public class SupabaseStorageService {
     }
   }
 
+  private static void copyLimited(InputStream in, OutputStream out, long declaredSize)
+      throws IOException {
+    byte[] buffer = new byte[UPLOAD_BUFFER_SIZE];
+    long copied = 0;
+    int read;
+    while ((read = in.read(buffer)) != -1) {
+      copied += read;
+      if (copied > declaredSize) {
+        // The part grew past its declared length; abort rather than send a corrupt object.
+        throw new BadRequestException("Uploaded file is larger than declared");
+      }
+      out.write(buffer, 0, read);
+    }
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 is not available", ex);
+    }
+  }
+
+  private static Instant parseInstant(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return OffsetDateTime.parse(value).toInstant();
+    } catch (DateTimeParseException ex) {
+      return null;
+    }
+  }
+
+  private static String textOrNull(JsonNode node) {
+    if (node == null || node.isNull()) {
+      return null;
+    }
+    String value = node.asText(null);
+    return isBlank(value) ? null : value;
+  }
+
   private static String fileName(String path) {
     int index = path.lastIndexOf('/');
     return index >= 0 ? path.substring(index + 1) : path;
@@ -228,7 +428,26 @@ public class SupabaseStorageService {
     return result;
   }
 
-  public record ResumeMetadata(String fileName, String path, String contentType, long fileSize) {}
+  public record ResumeMetadata(
+      String id,
+      String fileName,
+      String path,
+      String contentType,
+      long fileSize,
+      Instant uploadedAt) {}
+
+  public record UploadResult(String path, long size, String sha256) {}
 
-  public record DownloadResult(byte[] bytes, String fileName) {}
+  /** Destination of a resume download, implemented by the web layer. */
+  public interface ResumeSink {
+
+    /** True when the response needs random access to the body (e.g. a Range request). */
+    boolean requiresCachedCopy();
+
+    /** Serves a cached copy; returns false if its file is no longer on disk. */
+    boolean sendCached(ResumeFileCache.CachedResume entry, String fileName) throws IOException;
+
+    OutputStream openUpstream(String fileName, long size, String contentType, String lastModified)
+        throws IOException;
+  }
 }
@@ -4,6 +4,8 @@ import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -11,6 +13,7 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
 
+import com.portfolio.monolith.config.CacheNames;
 import com.portfolio.monolith.dto.TestimonialDto;
 import com.portfolio.monolith.dto.TestimonialStatus;
 import com.portfolio.monolith.exception.NotFoundException;
@@ -24,6 +27,7 @@ public class TestimonialDataService {
     this.jdbc = jdbc;
   }
 
+  @Cacheable(cacheNames = CacheNames.TESTIMONIALS, key = CacheNames.ALL_KEY, sync = true)
   public List<TestimonialDto> getApprovedTestimonials() {
     String sql =
         "select * from public.testimonials where status = 'APPROVED' order by created_at desc";
@@ -41,6 +45,7 @@ public class TestimonialDataService {
     return queryOne(sql, new MapSqlParameterSource("id", id), "Testimonial not found");
   }
 
+  @CacheEvict(cacheNames = CacheNames.TESTIMONIALS, allEntries = true)
   public TestimonialDto createTestimonial(TestimonialDto dto) {
     String status = dto.status == null ? TestimonialStatus.PENDING.name() : dto.status.name();
 
@@ -70,18 +75,21 @@ public class TestimonialDataService {
     return jdbc.queryForObject(sql, p, rowMapper());
   }
 
+  @CacheEvict(cacheNames = CacheNames.TESTIMONIALS, allEntries = true)
   public TestimonialDto approveTestimonial(Long id) {
     String sql =
         "update public.testimonials set status = 'APPROVED', updated_at = now() where id = :id returning *";
     return queryOne(sql, new MapSqlParameterSource("id", id), "Testimonial not found");
   }
 
+  @CacheEvict(cacheNames = CacheNames.TESTIMONIALS, allEntries = true)
   public TestimonialDto rejectTestimonial(Long id) {
     String sql =
         "update public.testimonials set status = 'REJECTED', updated_at = now() where id = :id returning *";
     return queryOne(sql, new MapSqlParameterSource("id", id), "Testimonial not found");
   }
 
+  @CacheEvict(cacheNames = CacheNames.TESTIMONIALS, allEntries = true)
   public void deleteTestimonial(Long id) {
     String sql = "delete from public.testimonials where id = :id";
     int rows = jdbc.update(sql, new MapSqlParameterSource("id", id));
@@ -0,0 +1,123 @@
+package com.portfolio.monolith.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AppBeansConfigTest {
+
+  private static final byte[] GZIP_BODY = {0x1f, (byte) 0x8b, 0x08, 0x00, 0x01, 0x02, 0x03};
+
+  private final AppBeansConfig config = new AppBeansConfig();
+  private final List<Integer> clientPorts = new CopyOnWriteArrayList<>();
+
+  private HttpServer server;
+  private SimpleMeterRegistry meterRegistry;
+  private String baseUrl;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    meterRegistry = new SimpleMeterRegistry();
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext(
+        "/ok",
+        exchange -> {
+          clientPorts.add(exchange.getRemoteAddress().getPort());
+          byte[] body = "ok".getBytes(StandardCharsets.US_ASCII);
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+          }
+        });
+    server.createContext(
+        "/gzip",
+        exchange -> {
+          exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+          exchange.sendResponseHeaders(200, GZIP_BODY.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(GZIP_BODY);
+          }
+        });
+    server.start();
+    baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  void sequentialCallsReuseOneKeptAliveConnection() throws IOException {
+    try (CloseableHttpClient client = turnstileClient()) {
+      RestTemplate restTemplate = config.turnstileRestTemplate(new RestTemplateBuilder(), client);
+
+      restTemplate.getForObject(baseUrl + "/ok", String.class);
+      restTemplate.getForObject(baseUrl + "/ok", String.class);
+      restTemplate.getForObject(baseUrl + "/ok", String.class);
+    }
+
+    assertThat(clientPorts).hasSize(3);
+    assertThat(clientPorts).containsOnly(clientPorts.get(0));
+  }
+
+  @Test
+  void poolIsExportedUnderItsDependencyName() throws IOException {
+    try (CloseableHttpClient client = turnstileClient()) {
+      assertThat(
+              meterRegistry
+                  .get("httpcomponents.httpclient.pool.total.max")
+                  .tag("httpclient", "turnstile")
+                  .gauge()
+                  .value())
+          .isEqualTo(4);
+    }
+  }
+
+  @Test
+  void storageClientPassesEncodedBodiesThroughUnchanged() throws IOException {
+    try (CloseableHttpClient client =
+        config.supabaseStorageHttpClient(
+            meterRegistry,
+            Duration.ofSeconds(2),
+            Duration.ofSeconds(2),
+            4,
+            Duration.ofSeconds(60),
+            Duration.ofSeconds(30))) {
+      RestTemplate restTemplate =
+          new RestTemplate(new HttpComponentsClientHttpRequestFactory(client));
+
+      byte[] body = restTemplate.getForObject(baseUrl + "/gzip", byte[].class);
+
+      assertThat(body).isEqualTo(GZIP_BODY);
+    }
+  }
+
+  private CloseableHttpClient turnstileClient() {
+    return config.turnstileHttpClient(
+        meterRegistry,
+        Duration.ofSeconds(2),
+        Duration.ofSeconds(2),
+        4,
+        Duration.ofSeconds(60),
+        Duration.ofSeconds(30));
+  }
+}
@@ -0,0 +1,145 @@
+package com.portfolio.monolith.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+class PooledJavaMailSenderTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private List<Transport> opened;
+  private Deque<Transport> available;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    opened = new ArrayList<>();
+    available = new ArrayDeque<>();
+  }
+
+  @Test
+  void consecutiveSendsReuseOneConnection() throws Exception {
+    Transport transport = transport();
+    PooledJavaMailSender sender = sender(Duration.ofMinutes(1), Duration.ofMinutes(1), 100);
+
+    sender.send(message(sender));
+    sender.send(message(sender));
+
+    assertThat(opened).containsExactly(transport);
+    verify(transport, times(2)).sendMessage(any(MimeMessage.class), any(Address[].class));
+    verify(transport, never()).close();
+    assertThat(meterRegistry.get("mail.transport.pool.idle").gauge().value()).isEqualTo(1);
+    assertThat(meterRegistry.get("mail.send").tag("outcome", "success").timer().count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void failedSendClosesTheConnectionInsteadOfPoolingIt() throws Exception {
+    Transport broken = transport();
+    Transport fresh = transport();
+    doThrow(new MessagingException("421 closing"))
+        .when(broken)
+        .sendMessage(any(MimeMessage.class), any(Address[].class));
+    PooledJavaMailSender sender = sender(Duration.ofMinutes(1), Duration.ofMinutes(1), 100);
+
+    assertThatThrownBy(() -> sender.send(message(sender))).isInstanceOf(MailSendException.class);
+    sender.send(message(sender));
+
+    verify(broken).close();
+    assertThat(opened).containsExactly(broken, fresh);
+    assertThat(meterRegistry.get("mail.send").tag("outcome", "failure").timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void connectionIsRetiredAfterItsMessageBudget() throws Exception {
+    Transport first = transport();
+    Transport second = transport();
+    PooledJavaMailSender sender = sender(Duration.ofMinutes(1), Duration.ofMinutes(1), 1);
+
+    sender.send(message(sender));
+    sender.send(message(sender));
+
+    assertThat(opened).containsExactly(first, second);
+    verify(first).close();
+    verify(second).close();
+  }
+
+  @Test
+  void staleConnectionFailingItsCheckIsReplaced() throws Exception {
+    Transport stale = transport();
+    Transport fresh = transport();
+    when(stale.isConnected()).thenReturn(false);
+    PooledJavaMailSender sender = sender(Duration.ofMinutes(1), Duration.ZERO, 100);
+
+    sender.send(message(sender));
+    Thread.sleep(1);
+    sender.send(message(sender));
+
+    verify(stale).close();
+    assertThat(opened).containsExactly(stale, fresh);
+  }
+
+  @Test
+  void destroyClosesIdleConnections() throws Exception {
+    Transport transport = transport();
+    PooledJavaMailSender sender = sender(Duration.ofMinutes(1), Duration.ofMinutes(1), 100);
+    sender.send(message(sender));
+
+    sender.destroy();
+
+    verify(transport).close();
+    assertThat(meterRegistry.get("mail.transport.pool.idle").gauge().value()).isZero();
+  }
+
+  private Transport transport() {
+    Transport transport = mock(Transport.class);
+    when(transport.isConnected()).thenReturn(true);
+    available.add(transport);
+    return transport;
+  }
+
+  private PooledJavaMailSender sender(
+      Duration idleTimeout, Duration validateAfter, int maxMessagesPerConnection) {
+    return new PooledJavaMailSender(
+        meterRegistry, 2, idleTimeout, validateAfter, maxMessagesPerConnection) {
+      @Override
+      protected Transport connectTransport() {
+        Transport transport = available.removeFirst();
+        opened.add(transport);
+        return transport;
+      }
+    };
+  }
+
+  private static MimeMessage message(PooledJavaMailSender sender) throws MessagingException {
+    MimeMessage message = sender.createMimeMessage();
+    message.setFrom("portfolio@example.com");
+    message.setRecipients(MimeMessage.RecipientType.TO, "owner@example.com");
+    message.setSubject("New contact message");
+    message.setText("Hello");
+    return message;
+  }
+}
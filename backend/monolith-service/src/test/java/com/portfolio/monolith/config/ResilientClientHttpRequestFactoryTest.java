@@ -0,0 +1,94 @@
+package com.portfolio.monolith.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+
+class ResilientClientHttpRequestFactoryTest {
+
+  private static final URI TARGET = URI.create("https://project.supabase.co/object");
+
+  private final Bulkhead bulkhead =
+      Bulkhead.of("storage", BulkheadConfig.custom().maxConcurrentCalls(1).build());
+  private final CircuitBreaker circuitBreaker =
+      CircuitBreaker.of(
+          "storage",
+          CircuitBreakerConfig.custom()
+              .slidingWindowSize(2)
+              .minimumNumberOfCalls(2)
+              .failureRateThreshold(50)
+              .build());
+
+  private HttpStatus upstreamStatus = HttpStatus.OK;
+
+  private final ResilientClientHttpRequestFactory factory =
+      new ResilientClientHttpRequestFactory(
+          (uri, method) -> {
+            MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+            request.setResponse(new MockClientHttpResponse(new byte[0], upstreamStatus));
+            return request;
+          },
+          circuitBreaker,
+          bulkhead);
+
+  @Test
+  void releasesBulkheadPermitOnceHeadersArrive() throws IOException {
+    ClientHttpResponse open = execute();
+
+    // The first body is still open, but a second call is not held back by it.
+    try (ClientHttpResponse second = execute()) {
+      assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+    assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    open.close();
+  }
+
+  @Test
+  void rejectsCallsWhenBulkheadIsFull() {
+    assertThat(bulkhead.tryAcquirePermission()).isTrue();
+
+    assertThatThrownBy(this::execute)
+        .isInstanceOf(ResilientClientHttpRequestFactory.UpstreamUnavailableException.class)
+        .hasMessageContaining("too many calls");
+  }
+
+  @Test
+  void opensCircuitAfterServerErrors() throws IOException {
+    upstreamStatus = HttpStatus.BAD_GATEWAY;
+    execute().close();
+    execute().close();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThatThrownBy(this::execute)
+        .isInstanceOf(ResilientClientHttpRequestFactory.UpstreamUnavailableException.class)
+        .hasMessageContaining("circuit is open");
+    assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+  }
+
+  @Test
+  void clientErrorsCountAsSuccessfulCalls() throws IOException {
+    upstreamStatus = HttpStatus.NOT_FOUND;
+    execute().close();
+    execute().close();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  private ClientHttpResponse execute() throws IOException {
+    return factory.createRequest(TARGET, HttpMethod.GET).execute();
+  }
+}
@@ -0,0 +1,131 @@
+package com.portfolio.monolith.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.portfolio.monolith.service.ContentVersionService;
+import com.portfolio.monolith.service.EncodedContentService;
+import com.portfolio.monolith.service.EncodedContentService.EncodedContent;
+import com.portfolio.monolith.service.LocalizedContentService;
+
+class PublicContentResponderTest {
+
+  private static final byte[] IDENTITY = "[]".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] GZIP = new byte[] {31, -117};
+
+  private EncodedContentService encodedContent;
+  private PublicContentResponder responder;
+
+  @BeforeEach
+  void setUp() {
+    encodedContent = mock(EncodedContentService.class);
+    responder =
+        new PublicContentResponder(
+            mock(ContentVersionService.class), mock(LocalizedContentService.class), encodedContent);
+  }
+
+  @Test
+  void smallBodyGoesOutAsIdentityUnderTheGzipVariantTag() {
+    body(new EncodedContent(IDENTITY, null));
+    MockHttpServletRequest request = gzipRequest();
+
+    ResponseEntity<byte[]> response = respond(request, new MockHttpServletResponse());
+
+    assertThat(response.getHeaders().getETag()).isEqualTo("\"projects-1-gz\"");
+    assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+    assertThat(response.getBody()).isEqualTo(IDENTITY);
+  }
+
+  @Test
+  void clientWithoutGzipGetsTheIdentityValidator() {
+    body(new EncodedContent(IDENTITY, GZIP));
+
+    ResponseEntity<byte[]> response =
+        respond(new MockHttpServletRequest("GET", "/projects"), new MockHttpServletResponse());
+
+    assertThat(response.getHeaders().getETag()).isEqualTo("\"projects-1\"");
+    assertThat(response.getBody()).isEqualTo(IDENTITY);
+  }
+
+  @Test
+  void revalidationIsAnsweredWithoutLoadingTheBody() {
+    MockHttpServletRequest request = gzipRequest();
+    request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"projects-1-gz\"");
+    MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+    ResponseEntity<byte[]> response = respond(request, servletResponse);
+
+    assertThat(response).isNull();
+    assertThat(servletResponse.getStatus()).isEqualTo(304);
+    verify(encodedContent, never()).encoded(any(), any(), any(), any());
+  }
+
+  @Test
+  void compressedBodyUsesGzipValidator() {
+    body(new EncodedContent(IDENTITY, GZIP));
+    MockHttpServletRequest request = gzipRequest();
+    request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"projects-1\"");
+
+    ResponseEntity<byte[]> response = respond(request, new MockHttpServletResponse());
+
+    assertThat(response.getHeaders().getETag()).isEqualTo("\"projects-1-gz\"");
+    assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    assertThat(response.getBody()).isEqualTo(GZIP);
+  }
+
+  @Test
+  void gzipClientRevalidatingCompressedBodyGetsNotModified() {
+    body(new EncodedContent(IDENTITY, GZIP));
+    MockHttpServletRequest request = gzipRequest();
+    request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"projects-1-gz\"");
+
+    assertThat(respond(request, new MockHttpServletResponse())).isNull();
+  }
+
+  @Test
+  void acceptsGzipHonoursQualityValues() {
+    assertThat(PublicContentResponder.acceptsGzip("gzip, deflate")).isTrue();
+    assertThat(PublicContentResponder.acceptsGzip("br;q=1.0, gzip;q=0.5")).isTrue();
+    assertThat(PublicContentResponder.acceptsGzip("gzip;q=0")).isFalse();
+    assertThat(PublicContentResponder.acceptsGzip("identity")).isFalse();
+    assertThat(PublicContentResponder.acceptsGzip(null)).isFalse();
+  }
+
+  private void body(EncodedContent content) {
+    when(encodedContent.encoded(eq("projects-1"), eq("all"), isNull(), any()))
+        .thenReturn(content);
+  }
+
+  private ResponseEntity<byte[]> respond(
+      MockHttpServletRequest request, MockHttpServletResponse response) {
+    return responder.respond(
+        "projects-1",
+        "all",
+        null,
+        new ServletWebRequest(request, response),
+        () -> List.of());
+  }
+
+  private static MockHttpServletRequest gzipRequest() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/projects");
+    request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+    return request;
+  }
+}
@@ -0,0 +1,141 @@
+package com.portfolio.monolith.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.portfolio.monolith.service.ResumeFileCache;
+import com.portfolio.monolith.service.SupabaseStorageService;
+
+class ResumeResponseWriterTest {
+
+  private static final String ETAG = "\"v1\"";
+  private static final String LAST_MODIFIED = "Wed, 01 Jan 2025 00:00:00 GMT";
+
+  @TempDir Path directory;
+
+  @Test
+  void noRangeHeaderSendsWholeFile() {
+    assertThat(ranges(null, 1000)).isNull();
+  }
+
+  @Test
+  void parsesSingleRanges() {
+    assertThat(ranges("bytes=0-99", 1000)).containsExactly(new long[] {0, 99});
+    assertThat(ranges("bytes=500-", 1000)).containsExactly(new long[] {500, 999});
+    assertThat(ranges("bytes=-100", 1000)).containsExactly(new long[] {900, 999});
+    assertThat(ranges("bytes=-5000", 1000)).containsExactly(new long[] {0, 999});
+    assertThat(ranges("bytes=990-5000", 1000)).containsExactly(new long[] {990, 999});
+  }
+
+  @Test
+  void parsesMultipleRanges() {
+    assertThat(ranges("bytes=0-0, -1", 1000))
+        .containsExactly(new long[] {0, 0}, new long[] {999, 999});
+  }
+
+  @Test
+  void unsatisfiableRangesYieldEmptyList() {
+    assertThat(ranges("bytes=1000-", 1000)).isEmpty();
+    assertThat(ranges("bytes=-0", 1000)).isEmpty();
+  }
+
+  @Test
+  void malformedRangesFallBackToWholeFile() {
+    assertThat(ranges("items=0-1", 1000)).isNull();
+    assertThat(ranges("bytes=abc", 1000)).isNull();
+    assertThat(ranges("bytes=5-2", 1000)).isNull();
+    assertThat(ranges("bytes=x-10", 1000)).isNull();
+    String tooMany = "bytes=" + "0-0,".repeat(16) + "0-0";
+    assertThat(ranges(tooMany, 1000)).isNull();
+  }
+
+  @Test
+  void ifRangeMustMatchValidator() {
+    assertThat(ranges("bytes=0-9", 1000, ETAG)).containsExactly(new long[] {0, 9});
+    assertThat(ranges("bytes=0-9", 1000, LAST_MODIFIED)).containsExactly(new long[] {0, 9});
+    assertThat(ranges("bytes=0-9", 1000, "\"v0\"")).isNull();
+    assertThat(ranges("bytes=0-9", 1000, "W/\"v1\"")).isNull();
+  }
+
+  @Test
+  void servesRangeFromDiskCopy() throws IOException {
+    ResumeFileCache fileCache = mock(ResumeFileCache.class);
+    ResumeFileCache.CachedResume entry = entry(write("0123456789"), 10);
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    boolean sent = sink(fileCache, request, response).sendCached(entry, "resume.pdf");
+
+    assertThat(sent).isTrue();
+    assertThat(response.getStatus()).isEqualTo(206);
+    assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+    assertThat(response.getContentAsString()).isEqualTo("2345");
+    verify(fileCache, never()).discard(entry);
+  }
+
+  @Test
+  void truncatedDiskCopyIsDiscardedInsteadOfServed() throws IOException {
+    ResumeFileCache fileCache = mock(ResumeFileCache.class);
+    ResumeFileCache.CachedResume entry = entry(write("01234"), 10);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    boolean sent =
+        sink(fileCache, new MockHttpServletRequest(), response).sendCached(entry, "resume.pdf");
+
+    assertThat(sent).isFalse();
+    assertThat(response.getContentAsByteArray()).isEmpty();
+    verify(fileCache).discard(entry);
+  }
+
+  private static SupabaseStorageService.ResumeSink sink(
+      ResumeFileCache fileCache,
+      MockHttpServletRequest request,
+      MockHttpServletResponse response) {
+    return new ResumeResponseWriter(fileCache).sink(request, response);
+  }
+
+  private Path write(String content) throws IOException {
+    return Files.writeString(directory.resolve("resume.pdf"), content);
+  }
+
+  private static ResumeFileCache.CachedResume entry(Path file, long size) {
+    return new ResumeFileCache.CachedResume(
+        new ResumeFileCache.ResumeKey("en", "resume_en.pdf"),
+        file,
+        size,
+        "application/pdf",
+        ETAG,
+        LAST_MODIFIED,
+        Instant.now());
+  }
+
+  private static List<long[]> ranges(String range, long size) {
+    return ranges(range, size, null);
+  }
+
+  private static List<long[]> ranges(String range, long size, String ifRange) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    if (range != null) {
+      request.addHeader(HttpHeaders.RANGE, range);
+    }
+    if (ifRange != null) {
+      request.addHeader(HttpHeaders.IF_RANGE, ifRange);
+    }
+    return ResumeResponseWriter.requestedRanges(request, entry(null, size), size);
+  }
+}
@@ -0,0 +1,108 @@
+package com.portfolio.monolith.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.portfolio.monolith.exception.UnauthorizedException;
+import com.portfolio.monolith.service.SupabaseAuthService;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+
+class SupabaseAuthenticationFilterTest {
+
+  private static final String COOKIE = "sb-access-token";
+  private static final AuthenticatedUser ADMIN =
+      new AuthenticatedUser("user-1", "admin@example.com", "Admin", true);
+
+  private SupabaseAuthService authService;
+  private SupabaseAuthenticationFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    authService = mock(SupabaseAuthService.class);
+    when(authService.getAuthCookieName()).thenReturn(COOKIE);
+    filter = new SupabaseAuthenticationFilter(authService);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void routeThatNeverReadsThePrincipalSkipsTokenValidation() throws Exception {
+    filter.doFilter(requestWithCookie("token"), new MockHttpServletResponse(), (req, res) -> {});
+
+    verify(authService, never()).getUserFromToken(anyString());
+  }
+
+  @Test
+  void readingTheAuthenticationResolvesTheTokenOnce() throws Exception {
+    when(authService.getUserFromToken("token")).thenReturn(ADMIN);
+    AtomicReference<Authentication> seen = new AtomicReference<>();
+    FilterChain chain =
+        (req, res) -> {
+          seen.set(SecurityContextHolder.getContext().getAuthentication());
+          SecurityContextHolder.getContext().getAuthentication();
+        };
+
+    filter.doFilter(requestWithCookie("token"), new MockHttpServletResponse(), chain);
+
+    assertThat(seen.get().getPrincipal()).isSameAs(ADMIN);
+    assertThat(seen.get().getAuthorities())
+        .extracting(GrantedAuthority::getAuthority)
+        .containsExactly("ROLE_ADMIN");
+    verify(authService, times(1)).getUserFromToken("token");
+  }
+
+  @Test
+  void bearerHeaderTakesPrecedenceOverTheCookie() throws Exception {
+    when(authService.getUserFromToken("header-token")).thenReturn(ADMIN);
+    MockHttpServletRequest request = requestWithCookie("cookie-token");
+    request.addHeader("Authorization", "Bearer header-token");
+
+    filter.doFilter(
+        request,
+        new MockHttpServletResponse(),
+        (req, res) -> assertThat(SecurityUtils.getCurrentUser()).isSameAs(ADMIN));
+
+    verify(authService).getUserFromToken("header-token");
+  }
+
+  @Test
+  void invalidTokenLeavesTheRequestAnonymous() throws Exception {
+    when(authService.getUserFromToken("expired"))
+        .thenThrow(new UnauthorizedException("Invalid or expired token"));
+    AtomicReference<Authentication> seen = new AtomicReference<>();
+
+    filter.doFilter(
+        requestWithCookie("expired"),
+        new MockHttpServletResponse(),
+        (req, res) -> seen.set(SecurityContextHolder.getContext().getAuthentication()));
+
+    assertThat(seen.get()).isNull();
+  }
+
+  private static MockHttpServletRequest requestWithCookie(String token) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+    request.setCookies(new Cookie(COOKIE, token));
+    return request;
+  }
+}
@@ -0,0 +1,114 @@
+package com.portfolio.monolith.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+class AdminUserDirectoryTest {
+
+  private static final String ADMIN = "6f1c2d3e-0000-4000-8000-000000000001";
+  private static final String OTHER = "6f1c2d3e-0000-4000-8000-000000000002";
+
+  private NamedParameterJdbcTemplate jdbc;
+  private AuthTokenCache tokenCache;
+  private AdminUserDirectory directory;
+
+  @BeforeEach
+  void setUp() {
+    jdbc = mock(NamedParameterJdbcTemplate.class);
+    tokenCache = mock(AuthTokenCache.class);
+    directory = new AdminUserDirectory(jdbc, tokenCache);
+  }
+
+  @Test
+  void lookupsAreServedFromTheSetLoadedAtStartup() {
+    returnsAdmins(List.of(ADMIN.toUpperCase()));
+    directory.load();
+
+    assertThat(directory.isAdmin(ADMIN)).isTrue();
+    assertThat(directory.isAdmin(" " + ADMIN.toUpperCase() + " ")).isTrue();
+    assertThat(directory.isAdmin(OTHER)).isFalse();
+    assertThat(directory.isAdmin(null)).isFalse();
+
+    verify(jdbc, times(1))
+        .queryForList(anyString(), any(MapSqlParameterSource.class), eq(String.class));
+  }
+
+  @Test
+  void lookupsNeverQueryTheDatabase() {
+    returnsAdmins(List.of(ADMIN));
+
+    assertThat(directory.isAdmin(ADMIN)).isFalse();
+
+    verify(jdbc, never())
+        .queryForList(anyString(), any(MapSqlParameterSource.class), eq(String.class));
+  }
+
+  @Test
+  void startupFailsWhenTheTableCannotBeLoaded() {
+    when(jdbc.queryForList(anyString(), any(MapSqlParameterSource.class), eq(String.class)))
+        .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+    assertThatThrownBy(directory::load).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void firstLoadDropsPrincipalsCachedBeforeIt() {
+    returnsAdmins(List.of(ADMIN));
+
+    directory.load();
+
+    verify(tokenCache).invalidateAll();
+  }
+
+  @Test
+  void failedReloadKeepsTheLastKnownAdmins() {
+    returnsAdmins(List.of(ADMIN));
+    directory.load();
+    clearInvocations(tokenCache);
+    when(jdbc.queryForList(anyString(), any(MapSqlParameterSource.class), eq(String.class)))
+        .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+    directory.scheduledRefresh();
+
+    assertThat(directory.isAdmin(ADMIN)).isTrue();
+    verify(tokenCache, never()).invalidateAll();
+  }
+
+  @Test
+  void changedMembershipDropsCachedPrincipals() {
+    returnsAdmins(List.of(ADMIN));
+    directory.load();
+    clearInvocations(tokenCache);
+    directory.refresh();
+    verify(tokenCache, never()).invalidateAll();
+
+    returnsAdmins(List.of(OTHER));
+    directory.onAdminUsersChanged(new AdminUsersChangedEvent());
+
+    assertThat(directory.isAdmin(ADMIN)).isFalse();
+    assertThat(directory.isAdmin(OTHER)).isTrue();
+    verify(tokenCache).invalidateAll();
+  }
+
+  private void returnsAdmins(List<String> ids) {
+    when(jdbc.queryForList(anyString(), any(MapSqlParameterSource.class), eq(String.class)))
+        .thenReturn(ids);
+  }
+}
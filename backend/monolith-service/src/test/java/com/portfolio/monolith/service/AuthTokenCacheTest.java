@@ -0,0 +1,225 @@
+package com.portfolio.monolith.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.monolith.exception.UnauthorizedException;
+import com.portfolio.monolith.security.AuthenticatedUser;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuthTokenCacheTest {
+
+  private static final AuthenticatedUser USER =
+      new AuthenticatedUser("user-1", "admin@example.com", "Admin", true);
+
+  private SimpleMeterRegistry meterRegistry;
+  private AuthTokenCache cache;
+  private AtomicInteger validations;
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    cache = new AuthTokenCache(new ObjectMapper(), meterRegistry, Duration.ofMinutes(5), 100);
+    validations = new AtomicInteger();
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void validTokenIsValidatedOnce() {
+    String token = token(Instant.now().plusSeconds(3600));
+
+    assertThat(cache.get(token, this::validate)).isSameAs(USER);
+    assertThat(cache.get(token, this::validate)).isSameAs(USER);
+
+    assertThat(validations).hasValue(1);
+  }
+
+  @Test
+  void failedValidationIsNotCached() {
+    String token = token(Instant.now().plusSeconds(3600));
+
+    assertThatThrownBy(() -> cache.get(token, this::reject))
+        .isInstanceOf(UnauthorizedException.class);
+    assertThat(cache.get(token, this::validate)).isSameAs(USER);
+
+    assertThat(validations).hasValue(2);
+  }
+
+  @Test
+  void entryNeverOutlivesTheTokenExpiry() {
+    String token = token(Instant.now().minusSeconds(1));
+
+    cache.get(token, this::validate);
+    cache.get(token, this::validate);
+
+    assertThat(validations).hasValue(2);
+  }
+
+  @Test
+  void tokenWithoutReadableClaimsFallsBackToTheTtl() {
+    cache.get("opaque-token", this::validate);
+    cache.get("opaque-token", this::validate);
+
+    assertThat(validations).hasValue(1);
+  }
+
+  @Test
+  void invalidateForcesRevalidation() {
+    String token = token(Instant.now().plusSeconds(3600));
+
+    cache.get(token, this::validate);
+    cache.invalidate(token);
+    cache.get(token, this::validate);
+    cache.invalidateAll();
+    cache.get(token, this::validate);
+
+    assertThat(validations).hasValue(3);
+  }
+
+  @Test
+  void concurrentMissesShareOneValidation() throws Exception {
+    String token = token(Instant.now().plusSeconds(3600));
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    Future<AuthenticatedUser> first =
+        executor.submit(
+            () ->
+                cache.get(
+                    token,
+                    t -> {
+                      started.countDown();
+                      await(release);
+                      return validate(t);
+                    }));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    Future<AuthenticatedUser> second = executor.submit(() -> cache.get(token, this::validate));
+    awaitCoalesced(1);
+    release.countDown();
+
+    assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(USER);
+    assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(USER);
+    assertThat(validations).hasValue(1);
+  }
+
+  @Test
+  void coalescedMissesShareTheFailureAndTheNextMissRetries() throws Exception {
+    String token = token(Instant.now().plusSeconds(3600));
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    Future<AuthenticatedUser> first =
+        executor.submit(
+            () ->
+                cache.get(
+                    token,
+                    t -> {
+                      started.countDown();
+                      await(release);
+                      return reject(t);
+                    }));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    Future<AuthenticatedUser> second = executor.submit(() -> cache.get(token, this::validate));
+    awaitCoalesced(1);
+    release.countDown();
+
+    assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(UnauthorizedException.class);
+    assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(UnauthorizedException.class);
+    assertThat(validations).hasValue(1);
+
+    assertThat(cache.get(token, this::validate)).isSameAs(USER);
+    assertThat(validations).hasValue(2);
+  }
+
+  @Test
+  void leaderFailingWithAnErrorReleasesTheCoalescedMisses() throws Exception {
+    String token = token(Instant.now().plusSeconds(3600));
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    Future<AuthenticatedUser> first =
+        executor.submit(
+            () ->
+                cache.get(
+                    token,
+                    t -> {
+                      started.countDown();
+                      await(release);
+                      throw new LinkageError("verifier class failed to load");
+                    }));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    Future<AuthenticatedUser> second = executor.submit(() -> cache.get(token, this::validate));
+    awaitCoalesced(1);
+    release.countDown();
+
+    assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(LinkageError.class);
+    assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(LinkageError.class);
+    assertThat(validations).hasValue(0);
+
+    assertThat(cache.get(token, this::validate)).isSameAs(USER);
+    assertThat(validations).hasValue(1);
+  }
+
+  private void awaitCoalesced(long expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (meterRegistry.counter("auth.token.validations.coalesced").count() < expected) {
+      assertThat(System.nanoTime()).isLessThan(deadline);
+      Thread.sleep(5);
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private AuthenticatedUser validate(String token) {
+    validations.incrementAndGet();
+    return USER;
+  }
+
+  private AuthenticatedUser reject(String token) {
+    validations.incrementAndGet();
+    throw new UnauthorizedException("Invalid token");
+  }
+
+  private static String token(Instant expiresAt) {
+    Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    String header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+    String claims =
+        encoder.encodeToString(
+            ("{\"sub\":\"user-1\",\"exp\":" + expiresAt.getEpochSecond() + "}")
+                .getBytes(StandardCharsets.UTF_8));
+    return header + "." + claims + ".signature";
+  }
+}
@@ -0,0 +1,91 @@
+package com.portfolio.monolith.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.portfolio.monolith.dto.MessageDto;
+
+class ContactEmailNotificationServiceTest {
+
+  private final JavaMailSender mailSender = mock(JavaMailSender.class);
+
+  @Test
+  void missingAddressesFailTheSendInsteadOfSkippingIt() {
+    ContactEmailNotificationService service = service(true, "", "portfolio@example.com");
+
+    assertThat(service.isConfigured()).isFalse();
+    assertThatThrownBy(() -> service.sendNewMessageNotification(message("Hello")))
+        .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> service.sendDigestNotification(List.of(message("Hello"))))
+        .isInstanceOf(IllegalStateException.class);
+    verify(mailSender, never()).send(any(SimpleMailMessage.class));
+  }
+
+  @Test
+  void disabledNotificationsAreNotConfigured() {
+    ContactEmailNotificationService service =
+        service(false, "owner@example.com", "portfolio@example.com");
+
+    assertThat(service.isConfigured()).isFalse();
+    assertThatThrownBy(() -> service.sendNewMessageNotification(message("Hello")))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void sendsNotificationWithReplyToSender() {
+    ContactEmailNotificationService service =
+        service(true, "owner@example.com", "portfolio@example.com");
+
+    service.sendNewMessageNotification(message("Hello"));
+
+    ArgumentCaptor<SimpleMailMessage> sent = ArgumentCaptor.forClass(SimpleMailMessage.class);
+    verify(mailSender).send(sent.capture());
+    assertThat(sent.getValue().getTo()).containsExactly("owner@example.com");
+    assertThat(sent.getValue().getReplyTo()).isEqualTo("ada@example.com");
+    assertThat(sent.getValue().getSubject()).isEqualTo("[Portfolio] New contact message: Hello");
+  }
+
+  @Test
+  void digestListsEveryMessage() {
+    ContactEmailNotificationService service =
+        service(true, "owner@example.com", "portfolio@example.com");
+
+    service.sendDigestNotification(List.of(message("First"), message("Second")));
+
+    ArgumentCaptor<SimpleMailMessage> sent = ArgumentCaptor.forClass(SimpleMailMessage.class);
+    verify(mailSender).send(sent.capture());
+    assertThat(sent.getValue().getSubject()).isEqualTo("[Portfolio] 2 new contact messages");
+    assertThat(sent.getValue().getText()).contains("Subject: First", "Subject: Second");
+    assertThat(sent.getValue().getReplyTo()).isNull();
+  }
+
+  private ContactEmailNotificationService service(boolean enabled, String to, String from) {
+    ContactEmailNotificationService service = new ContactEmailNotificationService(mailSender);
+    ReflectionTestUtils.setField(service, "enabled", enabled);
+    ReflectionTestUtils.setField(service, "toEmail", to);
+    ReflectionTestUtils.setField(service, "fromEmail", from);
+    ReflectionTestUtils.setField(service, "replyToSender", true);
+    return service;
+  }
+
+  private static MessageDto message(String subject) {
+    MessageDto message = new MessageDto();
+    message.senderName = "Ada Lovelace";
+    message.senderEmail = "ada@example.com";
+    message.subject = subject;
+    message.message = "I enjoyed your portfolio.";
+    return message;
+  }
+}
@@ -0,0 +1,215 @@
+package com.portfolio.monolith.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+
+import com.portfolio.monolith.dto.MessageDto;
+import com.portfolio.monolith.exception.NotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ContactNotificationDispatcherTest {
+
+  private final ContactNotificationOutbox outbox = mock(ContactNotificationOutbox.class);
+  private final MessageDataService messages = mock(MessageDataService.class);
+  private final ContactEmailNotificationService notifications =
+      mock(ContactEmailNotificationService.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @BeforeEach
+  void setUp() {
+    when(notifications.isConfigured()).thenReturn(true);
+    when(messages.getMessageById(anyLong())).thenAnswer(call -> message(call.getArgument(0)));
+  }
+
+  @Test
+  void leavesOutboxUnclaimedWhileNotificationsAreNotConfigured() {
+    when(notifications.isConfigured()).thenReturn(false);
+    when(outbox.countByStatus("PENDING")).thenReturn(3L);
+
+    dispatcher("immediate").dispatch();
+
+    verify(outbox, never()).lease(anyInt(), any());
+    verify(outbox, never()).markDelivered(anyLong());
+    assertThat(depth("pending")).isEqualTo(3);
+  }
+
+  @Test
+  void deletesRowOnlyAfterNotificationWentOut() {
+    when(outbox.lease(eq(20), any())).thenReturn(List.of(entry(1, 10, 1)));
+
+    dispatcher("immediate").dispatch();
+
+    verify(notifications).sendNewMessageNotification(any(MessageDto.class));
+    verify(outbox).markDelivered(1);
+    assertThat(deliveries("sent")).isEqualTo(1);
+  }
+
+  @Test
+  void failedSendIsRetriedWithBackoffInsteadOfDeleted() {
+    when(outbox.lease(eq(20), any())).thenReturn(List.of(entry(1, 10, 3)));
+    doThrow(new MailSendException("SMTP down"))
+        .when(notifications)
+        .sendNewMessageNotification(any(MessageDto.class));
+
+    dispatcher("immediate").dispatch();
+
+    // Third attempt: 30s * 2^2.
+    verify(outbox).scheduleRetry(eq(1L), eq(Duration.ofMinutes(2)), anyString());
+    verify(outbox, never()).markDelivered(anyLong());
+    assertThat(deliveries("retry")).isEqualTo(1);
+  }
+
+  @Test
+  void unconfiguredSendIsRetriedInsteadOfCountedAsSent() {
+    when(outbox.lease(eq(20), any())).thenReturn(List.of(entry(1, 10, 1)));
+    doThrow(new IllegalStateException("not configured"))
+        .when(notifications)
+        .sendNewMessageNotification(any(MessageDto.class));
+
+    dispatcher("immediate").dispatch();
+
+    verify(outbox).scheduleRetry(eq(1L), any(), anyString());
+    verify(outbox, never()).markDelivered(anyLong());
+    assertThat(deliveries("sent")).isZero();
+  }
+
+  @Test
+  void rowOutOfAttemptsIsDeadLettered() {
+    when(outbox.lease(eq(20), any())).thenReturn(List.of(entry(1, 10, 8)));
+    doThrow(new MailSendException("SMTP down"))
+        .when(notifications)
+        .sendNewMessageNotification(any(MessageDto.class));
+
+    dispatcher("immediate").dispatch();
+
+    verify(outbox).markDead(eq(1L), anyString());
+    verify(outbox, never()).scheduleRetry(anyLong(), any(), anyString());
+    assertThat(deliveries("dead")).isEqualTo(1);
+  }
+
+  @Test
+  void rowForDeletedMessageIsDropped() {
+    when(outbox.lease(eq(20), any())).thenReturn(List.of(entry(1, 10, 1)));
+    when(messages.getMessageById(10L)).thenThrow(new NotFoundException("Message not found"));
+
+    dispatcher("immediate").dispatch();
+
+    verify(outbox).markDelivered(1);
+    verify(notifications, never()).sendNewMessageNotification(any(MessageDto.class));
+  }
+
+  @Test
+  void digestModeSendsDueMessagesAsOneEmail() {
+    when(outbox.dueBacklog())
+        .thenReturn(new ContactNotificationOutbox.Backlog(2, Instant.now()))
+        .thenReturn(new ContactNotificationOutbox.Backlog(0, null));
+    when(outbox.lease(eq(20), any())).thenReturn(List.of(entry(1, 10, 1), entry(2, 11, 1)));
+
+    dispatcher("digest").dispatch();
+
+    verify(notifications).sendDigestNotification(anyList());
+    verify(outbox).markDelivered(1);
+    verify(outbox).markDelivered(2);
+  }
+
+  @Test
+  void digestModeHoldsBackMessagesAfterARecentSend() {
+    ContactNotificationDispatcher dispatcher = dispatcher("digest");
+    when(outbox.dueBacklog())
+        .thenReturn(new ContactNotificationOutbox.Backlog(1, Instant.now()))
+        .thenReturn(new ContactNotificationOutbox.Backlog(0, null))
+        .thenReturn(new ContactNotificationOutbox.Backlog(1, Instant.now()));
+    when(outbox.lease(eq(20), any())).thenReturn(List.of(entry(1, 10, 1)));
+
+    // First message after a quiet period goes out at once; the next one waits for the window.
+    dispatcher.dispatch();
+    dispatcher.dispatch();
+
+    verify(notifications).sendNewMessageNotification(any(MessageDto.class));
+    verify(outbox).lease(anyInt(), any());
+  }
+
+  @Test
+  void digestModeSendsOnceWindowHasElapsed() {
+    ContactNotificationDispatcher dispatcher = dispatcher("digest");
+    when(outbox.dueBacklog())
+        .thenReturn(new ContactNotificationOutbox.Backlog(1, Instant.now()))
+        .thenReturn(new ContactNotificationOutbox.Backlog(0, null))
+        .thenReturn(
+            new ContactNotificationOutbox.Backlog(1, Instant.now().minus(Duration.ofMinutes(11))))
+        .thenReturn(new ContactNotificationOutbox.Backlog(0, null));
+    when(outbox.lease(eq(20), any()))
+        .thenReturn(List.of(entry(1, 10, 1)))
+        .thenReturn(List.of(entry(2, 11, 1)));
+
+    dispatcher.dispatch();
+    dispatcher.dispatch();
+
+    verify(outbox).markDelivered(1);
+    verify(outbox).markDelivered(2);
+  }
+
+  private ContactNotificationDispatcher dispatcher(String mode) {
+    return new ContactNotificationDispatcher(
+        outbox,
+        messages,
+        notifications,
+        meterRegistry,
+        20,
+        8,
+        Duration.ofMinutes(2),
+        Duration.ofSeconds(30),
+        Duration.ofHours(1),
+        mode,
+        Duration.ofMinutes(10),
+        20,
+        Duration.ofMinutes(30));
+  }
+
+  private double depth(String status) {
+    return meterRegistry
+        .get("contact.notification.outbox.depth")
+        .tag("status", status)
+        .gauge()
+        .value();
+  }
+
+  private double deliveries(String outcome) {
+    return meterRegistry
+        .get("contact.notification.deliveries")
+        .tag("outcome", outcome)
+        .counter()
+        .count();
+  }
+
+  private static ContactNotificationOutbox.Entry entry(long id, long messageId, int attempts) {
+    return new ContactNotificationOutbox.Entry(id, messageId, attempts, Instant.now());
+  }
+
+  private static MessageDto message(Long id) {
+    MessageDto message = new MessageDto();
+    message.id = id;
+    message.senderName = "Ada Lovelace";
+    message.subject = "Hello";
+    return message;
+  }
+}
@@ -0,0 +1,168 @@
+package com.portfolio.monolith.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.ExpectedCount.never;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.ResponseCreator;
+import org.springframework.web.client.RestTemplate;
+
+import com.portfolio.monolith.dto.MessageDto;
+import com.portfolio.monolith.exception.ApiException;
+import com.portfolio.monolith.exception.BadRequestException;
+import com.portfolio.monolith.exception.RateLimitExceededException;
+
+class ContactProtectionServiceTest {
+
+  private static final String VERIFY_URL = "https://turnstile.example/siteverify";
+
+  private final RestTemplate restTemplate = new RestTemplate();
+  private final MockRestServiceServer turnstile =
+      MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+  private final RateLimitBucketStore ipBuckets = mock(RateLimitBucketStore.class);
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  private ContactProtectionService service;
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    service.shutdown();
+  }
+
+  @Test
+  void acceptsSubmissionWithValidCaptcha() {
+    service = service(8, 16, Duration.ofSeconds(5));
+    turnstile
+        .expect(requestTo(VERIFY_URL))
+        .andRespond(withSuccess("{\"success\":true}", MediaType.APPLICATION_JSON));
+
+    assertThatCode(() -> service.validateSubmission(message(), "203.0.113.7", "test"))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void rejectsFailedCaptchaAsInvalid() {
+    service = service(8, 16, Duration.ofSeconds(5));
+    turnstile
+        .expect(requestTo(VERIFY_URL))
+        .andRespond(withSuccess("{\"success\":false}", MediaType.APPLICATION_JSON));
+
+    assertThatThrownBy(() -> service.validateSubmission(message(), "203.0.113.7", "test"))
+        .isInstanceOf(BadRequestException.class)
+        .hasMessage("Invalid captcha");
+  }
+
+  @Test
+  void rateLimitRejectionWinsOverPendingCaptcha() {
+    service = service(8, 16, Duration.ofSeconds(5));
+    turnstile.expect(requestTo(VERIFY_URL)).andRespond(blockingResponse(new CountDownLatch(1)));
+    when(ipBuckets.tryConsume(anyString())).thenReturn(false);
+
+    assertThatThrownBy(() -> service.validateSubmission(message(), "203.0.113.7", "test"))
+        .isInstanceOf(RateLimitExceededException.class);
+  }
+
+  @Test
+  void fullVerificationQueueIsServiceUnavailable() throws Exception {
+    service = service(1, 0, Duration.ofSeconds(5));
+    CountDownLatch started = new CountDownLatch(1);
+    turnstile.expect(requestTo(VERIFY_URL)).andRespond(blockingResponse(started));
+    CompletableFuture<Void> first =
+        CompletableFuture.runAsync(
+            () -> service.validateSubmission(message(), "203.0.113.7", "test"));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    assertThatThrownBy(() -> service.validateSubmission(message(), "198.51.100.4", "test"))
+        .isInstanceOfSatisfying(
+            ApiException.class,
+            ex -> assertThat(ex.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+
+    release.countDown();
+    first.get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void missedDeadlineIsServiceUnavailable() {
+    service = service(1, 1, Duration.ofMillis(100));
+    turnstile.expect(requestTo(VERIFY_URL)).andRespond(blockingResponse(new CountDownLatch(1)));
+
+    assertThatThrownBy(() -> service.validateSubmission(message(), "203.0.113.7", "test"))
+        .isInstanceOfSatisfying(
+            ApiException.class,
+            ex -> assertThat(ex.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+  }
+
+  @Test
+  void honeypotRejectsBeforeCallingTurnstile() {
+    service = service(8, 16, Duration.ofSeconds(5));
+    turnstile.expect(never(), requestTo(VERIFY_URL));
+    MessageDto message = message();
+    message.website = "https://spam.example";
+
+    assertThatThrownBy(() -> service.validateSubmission(message, "203.0.113.7", "test"))
+        .isInstanceOf(BadRequestException.class)
+        .hasMessage("Validation failed");
+    turnstile.verify();
+  }
+
+  private ContactProtectionService service(int parallelism, int queueCapacity, Duration deadline) {
+    when(ipBuckets.tryConsume(anyString())).thenReturn(true);
+    RateLimitBucketStore otherBuckets = mock(RateLimitBucketStore.class);
+    when(otherBuckets.tryConsume(anyString())).thenReturn(true);
+    RateLimitBackend backend = mock(RateLimitBackend.class);
+    when(backend.store(anyString(), anyList())).thenReturn(otherBuckets);
+    when(backend.store(eq("ip"), anyList())).thenReturn(ipBuckets);
+
+    ContactProtectionService service =
+        new ContactProtectionService(restTemplate, parallelism, queueCapacity, deadline, backend);
+    ReflectionTestUtils.setField(service, "turnstileEnabled", true);
+    ReflectionTestUtils.setField(service, "turnstileSecretKey", "secret");
+    ReflectionTestUtils.setField(service, "turnstileVerifyUrl", VERIFY_URL);
+    ReflectionTestUtils.setField(service, "minimumCaptchaScore", 0.5);
+    ReflectionTestUtils.setField(service, "ipHashSalt", "salt");
+    return service;
+  }
+
+  private ResponseCreator blockingResponse(CountDownLatch started) {
+    return request -> {
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      return withSuccess("{\"success\":true}", MediaType.APPLICATION_JSON)
+          .createResponse(request);
+    };
+  }
+
+  private static MessageDto message() {
+    MessageDto message = new MessageDto();
+    message.senderName = "Ada Lovelace";
+    message.senderEmail = "ada@example.com";
+    message.subject = "Hello";
+    message.message = "I enjoyed your portfolio.";
+    message.captchaToken = "token";
+    return message;
+  }
+}
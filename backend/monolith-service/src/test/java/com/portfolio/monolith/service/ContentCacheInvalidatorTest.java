@@ -0,0 +1,61 @@
+package com.portfolio.monolith.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import com.portfolio.monolith.config.CacheConfig;
+import com.portfolio.monolith.config.CacheNames;
+
+/** Runs against the production cache setup: {@code spring.cache.*} from application.yml. */
+@SpringBootTest(classes = ContentCacheInvalidatorTest.Config.class)
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+class ContentCacheInvalidatorTest {
+
+  @Configuration
+  @Import({CacheConfig.class, ContentCacheInvalidator.class})
+  static class Config {}
+
+  @Autowired private CacheManager cacheManager;
+  @Autowired private ContentCacheInvalidator invalidator;
+
+  @BeforeEach
+  void fillCaches() {
+    assertThat(cacheManager).isInstanceOf(CaffeineCacheManager.class);
+    for (String name : cacheManager.getCacheNames()) {
+      cacheManager.getCache(name).put("all", "cached");
+    }
+  }
+
+  @Test
+  void sectionChangeClearsThatSectionAndTheSnapshot() {
+    invalidator.onContentChanged(new ContentChangedEvent(ContentSection.PROJECTS, 7L));
+
+    assertThat(cached(CacheNames.PROJECTS)).isFalse();
+    assertThat(cached(CacheNames.PORTFOLIO)).isFalse();
+    assertThat(cached(CacheNames.SKILLS)).isTrue();
+    assertThat(cached(CacheNames.HOBBIES)).isTrue();
+  }
+
+  @Test
+  void unscopedChangeClearsEveryContentCache() {
+    invalidator.onContentChanged(ContentChangedEvent.all());
+
+    for (String name : cacheManager.getCacheNames()) {
+      assertThat(cached(name)).as(name).isFalse();
+    }
+  }
+
+  private boolean cached(String cacheName) {
+    return cacheManager.getCache(cacheName).get("all") != null;
+  }
+}
@@ -0,0 +1,118 @@
+package com.portfolio.monolith.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ContentChangeListenerTest {
+
+  private final List<Object> events = new CopyOnWriteArrayList<>();
+  private final ContentChangeListener parser =
+      new ContentChangeListener(events::add, new ObjectMapper());
+
+  private ContentChangeListener listener;
+
+  @AfterEach
+  void tearDown() {
+    if (listener != null) {
+      listener.stop();
+    }
+  }
+
+  @Test
+  void contentRowChangeNarrowsTheEventToItsSectionAndId() {
+    assertThat(parser.toEvent("{\"table\":\"projects\",\"id\":7}"))
+        .isEqualTo(new ContentChangedEvent(ContentSection.PROJECTS, 7L));
+    assertThat(parser.toEvent("{\"table\":\"work_experience\",\"id\":null}"))
+        .isEqualTo(new ContentChangedEvent(ContentSection.EXPERIENCE, null));
+    assertThat(parser.toEvent("{\"table\":\"hobbies\"}"))
+        .isEqualTo(new ContentChangedEvent(ContentSection.HOBBIES, null));
+  }
+
+  @Test
+  void adminUsersChangeReloadsTheAdminSet() {
+    assertThat(parser.toEvent("{\"table\":\"admin_users\",\"id\":null}"))
+        .isEqualTo(new AdminUsersChangedEvent());
+  }
+
+  @Test
+  void unknownTableOrUnreadablePayloadClearsEveryContentCache() {
+    assertThat(parser.toEvent("{\"table\":\"audit_log\",\"id\":1}"))
+        .isEqualTo(ContentChangedEvent.all());
+    assertThat(parser.toEvent("{}")).isEqualTo(ContentChangedEvent.all());
+    assertThat(parser.toEvent("projects:7")).isEqualTo(ContentChangedEvent.all());
+  }
+
+  @Test
+  void reconnectBackfillsAndThenRepublishesNotifications() throws Exception {
+    AtomicInteger connects = new AtomicInteger();
+    Connection connection = connection("{\"table\":\"skills\",\"id\":3}");
+    listener =
+        new ContentChangeListener(events::add, new ObjectMapper()) {
+          @Override
+          Connection connect() throws SQLException {
+            if (connects.incrementAndGet() == 1) {
+              throw new SQLException("Connection refused");
+            }
+            return connection;
+          }
+        };
+    ReflectionTestUtils.setField(listener, "enabled", true);
+    ReflectionTestUtils.setField(listener, "url", "jdbc:postgresql://db/postgres");
+    ReflectionTestUtils.setField(listener, "pollTimeout", Duration.ofMillis(10));
+    ReflectionTestUtils.setField(listener, "maxReconnectDelay", Duration.ofSeconds(1));
+
+    listener.start();
+    awaitEvents(3);
+
+    assertThat(connects).hasValue(2);
+    assertThat(events)
+        .startsWith(
+            ContentChangedEvent.all(),
+            new AdminUsersChangedEvent(),
+            new ContentChangedEvent(ContentSection.SKILLS, 3L));
+  }
+
+  private static Connection connection(String payload) throws SQLException {
+    PGNotification notification = mock(PGNotification.class);
+    when(notification.getParameter()).thenReturn(payload);
+    PGConnection pgConnection = mock(PGConnection.class);
+    when(pgConnection.getNotifications(anyInt()))
+        .thenReturn(new PGNotification[] {notification})
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(10);
+              return new PGNotification[0];
+            });
+    Connection connection = mock(Connection.class);
+    when(connection.createStatement()).thenReturn(mock(Statement.class));
+    when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+    return connection;
+  }
+
+  private void awaitEvents(int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (events.size() < expected) {
+      assertThat(System.nanoTime()).isLessThan(deadline);
+      Thread.sleep(5);
+    }
+  }
+}
@@ -0,0 +1,214 @@
+package com.portfolio.monolith.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.monolith.config.CacheConfig;
+import com.portfolio.monolith.config.CacheNames;
+import com.portfolio.monolith.dto.ProjectDto;
+import com.portfolio.monolith.exception.NotFoundException;
+import com.portfolio.monolith.service.EncodedContentService.EncodedContent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/** Runs against the production cache setup: {@code spring.cache.*} from application.yml. */
+@SpringBootTest(classes = EncodedContentServiceTest.Config.class)
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+class EncodedContentServiceTest {
+
+  @Configuration
+  @Import(CacheConfig.class)
+  static class Config {
+
+    @Bean
+    NamedParameterJdbcTemplate jdbc() {
+      return mock(NamedParameterJdbcTemplate.class);
+    }
+
+    @Bean
+    ProjectDataService projectDataService(NamedParameterJdbcTemplate jdbc) {
+      return new ProjectDataService(jdbc);
+    }
+  }
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Autowired private NamedParameterJdbcTemplate jdbc;
+  @Autowired private CacheManager cacheManager;
+  @Autowired private ProjectDataService projects;
+
+  private EncodedContentService service;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    cacheManager.getCache(CacheNames.PROJECTS).clear();
+    clearInvocations(jdbc);
+    when(jdbc.query(anyString(), any(RowMapper.class))).thenReturn(List.of(new ProjectDto()));
+    service = service(DataSize.ofMegabytes(1), DataSize.ofMegabytes(1));
+  }
+
+  @Test
+  void smallBodiesAreNotCompressed() {
+    EncodedContent body = service.encode(List.of(), null);
+
+    assertThat(new String(body.identity(), StandardCharsets.UTF_8)).isEqualTo("[]");
+    assertThat(body.gzip()).isNull();
+  }
+
+  @Test
+  void largeBodiesCarryAnEquivalentGzipCopy() throws IOException {
+    List<String> value = Collections.nCopies(200, "a fairly repetitive project description");
+
+    EncodedContent body = service.encode(value, null);
+
+    assertThat(body.gzip()).isNotNull();
+    assertThat(body.gzip().length).isLessThan(body.identity().length);
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body.gzip()))) {
+      assertThat(in.readAllBytes()).isEqualTo(body.identity());
+    }
+  }
+
+  @Test
+  void bodiesAreCachedPerKeyAndLanguage() {
+    AtomicInteger loads = new AtomicInteger();
+
+    EncodedContent all = service.encoded("projects-1", "all", null, () -> load(loads));
+    EncodedContent again = service.encoded("projects-1", "all", null, () -> load(loads));
+    EncodedContent french = service.encoded("projects-1", "all", "fr", () -> load(loads));
+
+    assertThat(again).isSameAs(all);
+    assertThat(french).isNotSameAs(all);
+    assertThat(loads).hasValue(2);
+    assertThat(new String(french.identity(), StandardCharsets.UTF_8))
+        .isEqualTo("[{\"title\":\"Bonjour\"}]");
+  }
+
+  @Test
+  void bodiesAreNeverSharedAcrossContentVersions() {
+    AtomicInteger loads = new AtomicInteger();
+
+    EncodedContent before = service.encoded("projects-1", "all", null, () -> load(loads));
+    EncodedContent after = service.encoded("projects-2", "all", null, () -> load(loads));
+
+    assertThat(after).isNotSameAs(before);
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void lookupsCannotEvictTheFullLists() {
+    service = service(DataSize.ofMegabytes(1), DataSize.ofBytes(64));
+    AtomicInteger loads = new AtomicInteger();
+    service.encoded("projects-1", "all", null, () -> load(loads));
+
+    for (int i = 0; i < 100; i++) {
+      service.encoded("projects-1", "status:s" + i, null, () -> load(loads));
+    }
+    service.encoded("projects-1", "all", null, () -> load(loads));
+
+    assertThat(loads).hasValue(101);
+  }
+
+  @Test
+  void lookupsMatchingNothingAreNotCached() {
+    AtomicInteger loads = new AtomicInteger();
+    Supplier<List<?>> nothing =
+        () -> {
+          loads.incrementAndGet();
+          return List.of();
+        };
+
+    EncodedContent first = service.encoded("projects-1", "status:no-such-status", null, nothing);
+    service.encoded("projects-1", "status:no-such-status", null, nothing);
+
+    assertThat(new String(first.identity(), StandardCharsets.UTF_8)).isEqualTo("[]");
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void loadersRunOutsideTheSectionCacheComputations() {
+    assertThat(cacheManager).isInstanceOf(CaffeineCacheManager.class);
+    Cache section = cacheManager.getCache(CacheNames.PROJECTS);
+
+    // Enough cache loads to land in the same map bin as any computation still in progress,
+    // which Caffeine rejects with "Recursive update".
+    service.encoded(
+        "projects-1",
+        "all",
+        null,
+        () -> {
+          for (int i = 0; i < 256; i++) {
+            int value = i;
+            section.get("probe-" + i, () -> value);
+          }
+          return projects.getAllProjects();
+        });
+
+    verify(jdbc, times(1)).query(anyString(), any(RowMapper.class));
+  }
+
+  @Test
+  void loaderExceptionsPropagateUnwrapped() {
+    assertThatThrownBy(
+            () ->
+                service.encoded(
+                    "projects-1",
+                    "id:42",
+                    null,
+                    () -> {
+                      throw new NotFoundException("Project not found");
+                    }))
+        .isInstanceOf(NotFoundException.class);
+  }
+
+  private EncodedContentService service(DataSize maxSize, DataSize lookupMaxSize) {
+    return new EncodedContentService(
+        objectMapper,
+        new LocalizedContentService(objectMapper),
+        new SimpleMeterRegistry(),
+        maxSize,
+        lookupMaxSize,
+        Duration.ofMinutes(10));
+  }
+
+  private static List<?> load(AtomicInteger loads) {
+    loads.incrementAndGet();
+    return List.of(Map.of("titleEn", "Hello", "titleFr", "Bonjour"));
+  }
+}
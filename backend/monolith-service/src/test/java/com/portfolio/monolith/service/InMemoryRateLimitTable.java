@@ -0,0 +1,58 @@
+package com.portfolio.monolith.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/** Stands in for contact_rate_limit_buckets, honouring the insert and CAS update semantics. */
+final class InMemoryRateLimitTable {
+
+  private InMemoryRateLimitTable() {}
+
+  @SuppressWarnings("unchecked")
+  static NamedParameterJdbcTemplate create() {
+    Map<String, byte[]> rows = new ConcurrentHashMap<>();
+    NamedParameterJdbcTemplate jdbc = mock(NamedParameterJdbcTemplate.class);
+    when(jdbc.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+        .thenAnswer(
+            call -> {
+              SqlParameterSource p = call.getArgument(1);
+              byte[] state = rows.get((String) p.getValue("id"));
+              return state == null ? List.of() : List.of(state);
+            });
+    when(jdbc.update(anyString(), any(SqlParameterSource.class)))
+        .thenAnswer(
+            call -> {
+              String sql = call.getArgument(0);
+              SqlParameterSource p = call.getArgument(1);
+              String id = (String) p.getValue("id");
+              if (sql.startsWith("delete")) {
+                return rows.remove(id) == null ? 0 : 1;
+              }
+              byte[] state = (byte[]) p.getValue("state");
+              if (sql.startsWith("insert")) {
+                return rows.putIfAbsent(id, state) == null ? 1 : 0;
+              }
+              byte[] original = (byte[]) p.getValue("original");
+              boolean[] swapped = new boolean[1];
+              rows.computeIfPresent(
+                  id,
+                  (key, current) -> {
+                    swapped[0] = Arrays.equals(current, original);
+                    return swapped[0] ? state : current;
+                  });
+              return swapped[0] ? 1 : 0;
+            });
+    return jdbc;
+  }
+}
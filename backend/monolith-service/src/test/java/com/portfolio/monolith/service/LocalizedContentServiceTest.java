@@ -0,0 +1,65 @@
+package com.portfolio.monolith.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class LocalizedContentServiceTest {
+
+  private final LocalizedContentService service = new LocalizedContentService(new ObjectMapper());
+
+  @Test
+  void explicitLanguageWins() {
+    assertThat(service.resolveLanguage(" FR ", "es")).isEqualTo("fr");
+  }
+
+  @Test
+  void fallsBackToAcceptLanguage() {
+    assertThat(service.resolveLanguage(null, "de-DE,es;q=0.8,en;q=0.5")).isEqualTo("es");
+    assertThat(service.resolveLanguage("de", "fr-CA")).isEqualTo("fr");
+  }
+
+  @Test
+  void defaultsToEnglish() {
+    assertThat(service.resolveLanguage("de", null)).isEqualTo("en");
+    assertThat(service.resolveLanguage(null, "de-DE")).isEqualTo("en");
+    assertThat(service.resolveLanguage(null, ";;q=x")).isEqualTo("en");
+  }
+
+  @Test
+  void projectsTranslatedFieldsOntoRequestedLanguage() {
+    Map<String, Object> project = new LinkedHashMap<>();
+    project.put("id", 1);
+    project.put("titleEn", "Portfolio");
+    project.put("titleFr", "Portefeuille");
+    project.put("titleEs", "Portafolio");
+    project.put("descriptionEn", "A site");
+    project.put("descriptionFr", "");
+    project.put("descriptionEs", null);
+
+    JsonNode projected = service.localize(List.of(project), "fr");
+
+    JsonNode first = projected.get(0);
+    assertThat(first.get("id").asInt()).isEqualTo(1);
+    assertThat(first.get("title").asText()).isEqualTo("Portefeuille");
+    // An empty translation falls back to English.
+    assertThat(first.get("description").asText()).isEqualTo("A site");
+    assertThat(first.has("titleEn")).isFalse();
+    assertThat(first.has("titleFr")).isFalse();
+  }
+
+  @Test
+  void leavesFieldsThatOnlyLookLocalizedAlone() {
+    JsonNode projected = service.localize(Map.of("En", "x", "status", "Completed"), "es");
+
+    assertThat(projected.get("En").asText()).isEqualTo("x");
+    assertThat(projected.get("status").asText()).isEqualTo("Completed");
+  }
+}
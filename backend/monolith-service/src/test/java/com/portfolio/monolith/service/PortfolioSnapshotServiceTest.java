@@ -0,0 +1,128 @@
+package com.portfolio.monolith.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.monolith.dto.PortfolioSnapshotDto;
+
+class PortfolioSnapshotServiceTest {
+
+  private ProjectDataService projects;
+  private HobbyDataService hobbies;
+  private PortfolioSnapshotService service;
+
+  @BeforeEach
+  void setUp() {
+    projects = mock(ProjectDataService.class);
+    hobbies = mock(HobbyDataService.class);
+    ContentVersionService versions = mock(ContentVersionService.class);
+    when(versions.currentVersion(any())).thenReturn("1");
+    service =
+        new PortfolioSnapshotService(
+            projects,
+            mock(SkillDataService.class),
+            mock(EducationDataService.class),
+            mock(ExperienceDataService.class),
+            hobbies,
+            mock(TestimonialDataService.class),
+            versions,
+            mock(CacheManager.class),
+            2,
+            Duration.ofMillis(200));
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.shutdown();
+  }
+
+  @Test
+  void assemblesAllSectionsWhenEveryLoadSucceeds() {
+    when(projects.getAllProjects()).thenReturn(List.of());
+
+    PortfolioSnapshotDto snapshot = service.getSnapshot();
+
+    assertThat(snapshot.complete).isTrue();
+    assertThat(snapshot.unavailableSections).isNull();
+    assertThat(snapshot.projects).isEmpty();
+  }
+
+  @Test
+  void timedOutSectionIsReportedAndItsTaskInterrupted() throws Exception {
+    CountDownLatch interrupted = new CountDownLatch(1);
+    when(hobbies.getAllHobbies())
+        .thenAnswer(
+            invocation -> {
+              try {
+                new CountDownLatch(1).await();
+              } catch (InterruptedException ex) {
+                interrupted.countDown();
+              }
+              return List.of();
+            });
+
+    PortfolioSnapshotDto snapshot = service.getSnapshot();
+
+    assertThat(snapshot.complete).isFalse();
+    assertThat(snapshot.unavailableSections).containsExactly("hobbies");
+    assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void stuckSectionsShareOneDeadline() {
+    when(projects.getAllProjects()).thenAnswer(invocation -> block());
+    when(hobbies.getAllHobbies()).thenAnswer(invocation -> block());
+    long start = System.nanoTime();
+
+    PortfolioSnapshotDto snapshot = service.getSnapshot();
+
+    // Both pool threads are stuck, so the sections queued behind them miss the deadline too.
+    assertThat(snapshot.unavailableSections).contains("projects", "hobbies");
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(390));
+  }
+
+  @Test
+  void cacheBookkeepingIsNotSerialized() {
+    when(projects.getAllProjects()).thenReturn(List.of());
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    JsonNode json = objectMapper.valueToTree(service.getSnapshot());
+
+    assertThat(json.has("complete")).isFalse();
+    assertThat(json.has("version")).isFalse();
+    assertThat(json.has("projects")).isTrue();
+  }
+
+  @Test
+  void failedSectionIsReported() {
+    when(projects.getAllProjects()).thenThrow(new IllegalStateException("database down"));
+
+    PortfolioSnapshotDto snapshot = service.getSnapshot();
+
+    assertThat(snapshot.unavailableSections).containsExactly("projects");
+    assertThat(snapshot.projects).isNull();
+  }
+
+  private static List<?> block() {
+    try {
+      new CountDownLatch(1).await();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    return List.of();
+  }
+}
@@ -0,0 +1,53 @@
+package com.portfolio.monolith.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.Refill;
+import io.github.bucket4j.distributed.AsyncBucketProxy;
+import io.github.bucket4j.distributed.BucketProxy;
+
+class PostgresBucketProxyManagerTest {
+
+  private final BucketConfiguration configuration =
+      BucketConfiguration.builder()
+          .addLimit(Bandwidth.classic(2, Refill.intervally(2, Duration.ofMinutes(10))))
+          .build();
+
+  @Test
+  void twoManagersOnTheSameRowShareOneBucket() {
+    NamedParameterJdbcTemplate jdbc = InMemoryRateLimitTable.create();
+    BucketProxy first = manager(jdbc).builder().build("key", () -> configuration);
+    BucketProxy second = manager(jdbc).builder().build("key", () -> configuration);
+
+    assertThat(first.tryConsume(1)).isTrue();
+    assertThat(second.tryConsume(1)).isTrue();
+    assertThat(first.tryConsume(1)).isFalse();
+    assertThat(second.tryConsume(1)).isFalse();
+  }
+
+  @Test
+  void asyncViewWritesTheSameRow() {
+    NamedParameterJdbcTemplate jdbc = InMemoryRateLimitTable.create();
+    PostgresBucketProxyManager manager = manager(jdbc);
+    AsyncBucketProxy async = manager.asAsync().builder().build("key", configuration);
+    BucketProxy sync = manager(jdbc).builder().build("key", () -> configuration);
+
+    assertThat(async.tryConsume(1).join()).isTrue();
+    assertThat(sync.tryConsume(1)).isTrue();
+    assertThat(async.tryConsume(1).join()).isFalse();
+
+    manager.asAsync().removeProxy("key").join();
+    assertThat(sync.tryConsume(1)).isTrue();
+  }
+
+  private static PostgresBucketProxyManager manager(NamedParameterJdbcTemplate jdbc) {
+    return new PostgresBucketProxyManager(jdbc, Duration.ofMinutes(10));
+  }
+}
@@ -0,0 +1,85 @@
+package com.portfolio.monolith.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.portfolio.monolith.config.CacheConfig;
+import com.portfolio.monolith.config.CacheNames;
+import com.portfolio.monolith.dto.ProjectDto;
+
+/** Runs against the production cache setup: {@code spring.cache.*} from application.yml. */
+@SpringBootTest(classes = ProjectDataServiceTest.Config.class)
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+class ProjectDataServiceTest {
+
+  @Configuration
+  @Import(CacheConfig.class)
+  static class Config {
+
+    @Bean
+    NamedParameterJdbcTemplate jdbc() {
+      return mock(NamedParameterJdbcTemplate.class);
+    }
+
+    @Bean
+    ProjectDataService projectDataService(NamedParameterJdbcTemplate jdbc) {
+      return new ProjectDataService(jdbc);
+    }
+  }
+
+  @Autowired private NamedParameterJdbcTemplate jdbc;
+  @Autowired private CacheManager cacheManager;
+  @Autowired private ProjectDataService service;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    cacheManager.getCache(CacheNames.PROJECTS).clear();
+    clearInvocations(jdbc);
+    when(jdbc.query(anyString(), any(RowMapper.class))).thenReturn(List.of(new ProjectDto()));
+    when(jdbc.update(anyString(), any(SqlParameterSource.class))).thenReturn(1);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void repeatedReadsHitTheCache() {
+    List<ProjectDto> first = service.getAllProjects();
+    List<ProjectDto> second = service.getAllProjects();
+
+    assertThat(second).isSameAs(first);
+    verify(jdbc, times(1)).query(anyString(), any(RowMapper.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void writesEvictTheCachedList() {
+    service.getAllProjects();
+
+    service.deleteProject(1L);
+    service.getAllProjects();
+
+    verify(jdbc, times(2)).query(anyString(), any(RowMapper.class));
+  }
+}
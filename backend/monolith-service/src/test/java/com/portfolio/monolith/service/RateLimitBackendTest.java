@@ -0,0 +1,62 @@
+package com.portfolio.monolith.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimitBackendTest {
+
+  private static final List<Bandwidth> LIMIT =
+      List.of(Bandwidth.classic(3, Refill.intervally(3, Duration.ofMinutes(10))));
+
+  @Test
+  void defaultSettingsKeepTheSharedLimitExactAcrossReplicas() {
+    NamedParameterJdbcTemplate jdbc = InMemoryRateLimitTable.create();
+    RateLimitBucketStore first = replica(jdbc, 0).store("contact", LIMIT);
+    RateLimitBucketStore second = replica(jdbc, 0).store("contact", LIMIT);
+
+    int admitted = 0;
+    for (int i = 0; i < 5; i++) {
+      admitted += first.tryConsume("1.2.3.4") ? 1 : 0;
+      admitted += second.tryConsume("1.2.3.4") ? 1 : 0;
+    }
+
+    assertThat(admitted).isEqualTo(3);
+  }
+
+  @Test
+  void delayedSyncLetsEachReplicaOverspendByItsLocalBudget() {
+    NamedParameterJdbcTemplate jdbc = InMemoryRateLimitTable.create();
+    RateLimitBucketStore first = replica(jdbc, 2).store("contact", LIMIT);
+    RateLimitBucketStore second = replica(jdbc, 2).store("contact", LIMIT);
+
+    int admitted = 0;
+    for (int i = 0; i < 5; i++) {
+      admitted += first.tryConsume("1.2.3.4") ? 1 : 0;
+      admitted += second.tryConsume("1.2.3.4") ? 1 : 0;
+    }
+
+    // Documented trade-off of sync.max-unsynchronized-tokens: bounded, but above the limit.
+    assertThat(admitted).isGreaterThan(3).isLessThanOrEqualTo(3 + 2 * 2);
+  }
+
+  private static RateLimitBackend replica(NamedParameterJdbcTemplate jdbc, long maxTokens) {
+    return new RateLimitBackend(
+        jdbc,
+        new SimpleMeterRegistry(),
+        100,
+        "evict",
+        "postgres",
+        "open",
+        maxTokens,
+        Duration.ofSeconds(5));
+  }
+}
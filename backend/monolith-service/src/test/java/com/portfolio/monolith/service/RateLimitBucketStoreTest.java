@@ -0,0 +1,169 @@
+package com.portfolio.monolith.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.portfolio.monolith.exception.ApiException;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Refill;
+import io.github.bucket4j.distributed.proxy.optimization.Optimization;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimitBucketStoreTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void limitsEachKeyIndependently() {
+    RateLimitBucketStore store =
+        store(limit(2, Duration.ofMinutes(10)), 100, RateLimitBucketStore.OverflowPolicy.EVICT);
+
+    assertThat(store.tryConsume("a")).isTrue();
+    assertThat(store.tryConsume("a")).isTrue();
+    assertThat(store.tryConsume("a")).isFalse();
+    assertThat(store.tryConsume("b")).isTrue();
+  }
+
+  @Test
+  void evictPolicyAdmitsNewKeysWhenFull() {
+    RateLimitBucketStore store =
+        store(limit(1, Duration.ofMinutes(10)), 2, RateLimitBucketStore.OverflowPolicy.EVICT);
+
+    assertThat(store.tryConsume("a")).isTrue();
+    assertThat(store.tryConsume("b")).isTrue();
+    assertThat(store.tryConsume("c")).isTrue();
+    assertThat(rejected()).isZero();
+  }
+
+  @Test
+  void rejectPolicyRefusesUnseenKeysWhenFull() {
+    RateLimitBucketStore store =
+        store(limit(2, Duration.ofMinutes(10)), 1, RateLimitBucketStore.OverflowPolicy.REJECT);
+
+    assertThat(store.tryConsume("a")).isTrue();
+    assertThat(store.tryConsume("b")).isFalse();
+    // Known keys keep their bucket.
+    assertThat(store.tryConsume("a")).isTrue();
+    assertThat(rejected()).isEqualTo(1);
+  }
+
+  @Test
+  void idleBucketsExpireAndFreeRoom() throws InterruptedException {
+    RateLimitBucketStore store =
+        store(limit(1, Duration.ofMillis(200)), 1, RateLimitBucketStore.OverflowPolicy.REJECT);
+    assertThat(store.tryConsume("a")).isTrue();
+    assertThat(store.tryConsume("b")).isFalse();
+
+    Thread.sleep(400);
+
+    assertThat(store.tryConsume("b")).isTrue();
+  }
+
+  @Test
+  void publishesEstimatedMemory() {
+    RateLimitBucketStore store =
+        store(limit(1, Duration.ofMinutes(10)), 100, RateLimitBucketStore.OverflowPolicy.EVICT);
+    store.tryConsume("a");
+    store.tryConsume("b");
+
+    double bytes =
+        meterRegistry
+            .get("contact.rate.limit.buckets.memory")
+            .tag("store", "test")
+            .gauge()
+            .value();
+    assertThat(bytes).isEqualTo(2 * 512);
+  }
+
+  @Test
+  void replicasShareOneLimitThroughTheTable() {
+    NamedParameterJdbcTemplate jdbc = InMemoryRateLimitTable.create();
+    RateLimitBucketStore first = remoteStore(jdbc, false);
+    RateLimitBucketStore second = remoteStore(jdbc, false);
+
+    assertThat(first.tryConsume("a")).isTrue();
+    assertThat(second.tryConsume("a")).isTrue();
+    assertThat(first.tryConsume("a")).isFalse();
+    assertThat(second.tryConsume("a")).isFalse();
+    assertThat(second.tryConsume("b")).isTrue();
+  }
+
+  @Test
+  void failClosedRejectsWhenPostgresIsUnreachable() {
+    RateLimitBucketStore store = remoteStore(unreachable(), false);
+
+    assertThatThrownBy(() -> store.tryConsume("a"))
+        .isInstanceOfSatisfying(
+            ApiException.class,
+            ex -> assertThat(ex.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    assertThat(remoteFailures()).isEqualTo(1);
+  }
+
+  @Test
+  void failOpenFallsBackToLocalBuckets() {
+    RateLimitBucketStore store = remoteStore(unreachable(), true);
+
+    assertThat(store.tryConsume("a")).isTrue();
+    assertThat(store.tryConsume("a")).isTrue();
+    assertThat(store.tryConsume("a")).isFalse();
+    assertThat(remoteFailures()).isEqualTo(3);
+  }
+
+  private RateLimitBucketStore store(
+      Bandwidth limit, long maxEntries, RateLimitBucketStore.OverflowPolicy policy) {
+    return new RateLimitBucketStore("test", List.of(limit), maxEntries, policy, null, meterRegistry);
+  }
+
+  private static Bandwidth limit(long tokens, Duration period) {
+    return Bandwidth.classic(tokens, Refill.intervally(tokens, period));
+  }
+
+  private double rejected() {
+    return meterRegistry
+        .get("contact.rate.limit.buckets.rejected")
+        .tag("store", "test")
+        .counter()
+        .count();
+  }
+
+  private RateLimitBucketStore remoteStore(NamedParameterJdbcTemplate jdbc, boolean failOpen) {
+    return new RateLimitBucketStore(
+        "test",
+        List.of(limit(2, Duration.ofMinutes(10))),
+        100,
+        RateLimitBucketStore.OverflowPolicy.EVICT,
+        new RateLimitBucketStore.Remote(jdbc, Optimization.NONE_OPTIMIZED, failOpen),
+        meterRegistry);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static NamedParameterJdbcTemplate unreachable() {
+    NamedParameterJdbcTemplate jdbc = mock(NamedParameterJdbcTemplate.class);
+    when(jdbc.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+        .thenThrow(new DataAccessResourceFailureException("connection refused"));
+    return jdbc;
+  }
+
+  private double remoteFailures() {
+    return meterRegistry
+        .get("contact.rate.limit.remote.failures")
+        .tag("store", "test")
+        .counter()
+        .count();
+  }
+}
@@ -0,0 +1,227 @@
+package com.portfolio.monolith.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestTemplate;
+
+class ResumeFileCacheTest {
+
+  private static final String URL = "https://storage.example/resume_en.pdf";
+  private static final byte[] PDF = "%PDF-1.7 resume".getBytes(StandardCharsets.US_ASCII);
+  private static final String ETAG = "\"abc123\"";
+  private static final ResumeFileCache.ResumeKey KEY =
+      new ResumeFileCache.ResumeKey("en", "resume_en.pdf");
+
+  @TempDir Path directory;
+
+  private MockRestServiceServer server;
+  private ResumeFileCache cache;
+
+  private RestTemplate restTemplate;
+
+  @BeforeEach
+  void setUp() {
+    restTemplate = new RestTemplate();
+    server = MockRestServiceServer.bindTo(restTemplate).build();
+    cache = cache(Duration.ofMinutes(5));
+  }
+
+  @AfterEach
+  void tearDown() {
+    cache.shutdown();
+  }
+
+  @Test
+  void coldMissFetchesOnceAndServesFromCacheAfterwards() throws IOException {
+    server
+        .expect(ExpectedCount.once(), requestTo(URL))
+        .andRespond(withSuccess(PDF, MediaType.APPLICATION_PDF).headers(validators()));
+
+    ResumeFileCache.CachedResume first = cache.get(KEY, URL);
+    ResumeFileCache.CachedResume second = cache.get(KEY, URL);
+
+    assertThat(second).isSameAs(first);
+    assertThat(first.etag()).isEqualTo(ETAG);
+    assertThat(first.contentType()).isEqualTo(MediaType.APPLICATION_PDF_VALUE);
+    assertThat(Files.readAllBytes(first.file())).isEqualTo(PDF);
+    server.verify();
+  }
+
+  @Test
+  void largeBodiesStayOnDiskOnly() {
+    byte[] large = new byte[32 * 1024];
+    server.expect(requestTo(URL)).andRespond(withSuccess(large, MediaType.APPLICATION_PDF));
+
+    ResumeFileCache.CachedResume entry = cache.get(KEY, URL);
+
+    assertThat(entry.size()).isEqualTo(large.length);
+    assertThat(cache.cachedBytes(entry)).isNull();
+  }
+
+  @Test
+  void staleEntryIsRevalidatedInBackground() throws Exception {
+    cache.shutdown();
+    cache = cache(Duration.ZERO);
+    server
+        .expect(requestTo(URL))
+        .andRespond(withSuccess(PDF, MediaType.APPLICATION_PDF).headers(validators()));
+    // Every peek of an entry that is never fresh starts another revalidation.
+    server
+        .expect(ExpectedCount.manyTimes(), requestTo(URL))
+        .andExpect(header(HttpHeaders.IF_NONE_MATCH, ETAG))
+        .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+    ResumeFileCache.CachedResume fetched = cache.get(KEY, URL);
+
+    // The stale copy is served right away while the conditional GET runs.
+    assertThat(cache.peek(KEY, URL)).isSameAs(fetched);
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (cache.peek(KEY, URL) == fetched && System.nanoTime() < deadline) {
+      Thread.sleep(20);
+    }
+    ResumeFileCache.CachedResume refreshed = cache.peek(KEY, URL);
+    assertThat(refreshed.file()).isEqualTo(fetched.file());
+    assertThat(refreshed.fetchedAt()).isAfterOrEqualTo(fetched.fetchedAt());
+    assertThat(refreshed).isNotSameAs(fetched);
+  }
+
+  @Test
+  void indexIsReloadedFromDisk() {
+    server.expect(requestTo(URL)).andRespond(withSuccess(PDF, MediaType.APPLICATION_PDF));
+    ResumeFileCache.CachedResume entry = cache.get(KEY, URL);
+
+    ResumeFileCache restarted = cache(Duration.ofMinutes(5));
+    try {
+      ResumeFileCache.CachedResume reloaded = restarted.peek(KEY, URL);
+      assertThat(reloaded).isNotNull();
+      assertThat(reloaded.file()).isEqualTo(entry.file());
+      assertThat(reloaded.size()).isEqualTo(PDF.length);
+    } finally {
+      restarted.shutdown();
+    }
+  }
+
+  @Test
+  void purgeDropsEveryEntryForTheLanguage() {
+    server.expect(requestTo(URL)).andRespond(withSuccess(PDF, MediaType.APPLICATION_PDF));
+    cache.get(KEY, URL);
+
+    cache.purge("en");
+
+    assertThat(cache.peek(KEY, URL)).isNull();
+  }
+
+  @Test
+  void streamThroughCopiesBodyToClientAndCache() throws IOException {
+    server.expect(requestTo(URL)).andRespond(withSuccess(PDF, MediaType.APPLICATION_PDF));
+    ByteArrayOutputStream client = new ByteArrayOutputStream();
+
+    assertThat(cache.streamThrough(KEY, URL, (size, contentType, lastModified) -> client))
+        .isTrue();
+
+    assertThat(client.toByteArray()).isEqualTo(PDF);
+    ResumeFileCache.CachedResume entry = cache.peek(KEY, URL);
+    assertThat(entry).isNotNull();
+    assertThat(entry.size()).isEqualTo(PDF.length);
+    assertThat(Files.readAllBytes(entry.file())).isEqualTo(PDF);
+    assertThat(cache.cachedBytes(entry)).isEqualTo(PDF);
+  }
+
+  @Test
+  void coldMissOnAnyClientErrorIsAMiss() {
+    server.expect(requestTo(URL)).andRespond(withStatus(HttpStatus.BAD_REQUEST));
+
+    assertThat(cache.get(KEY, URL)).isNull();
+    server.verify();
+  }
+
+  @Test
+  void streamThroughReportsAnObjectStorageRefusesAsMissing() {
+    server.expect(requestTo(URL)).andRespond(withStatus(HttpStatus.BAD_REQUEST));
+
+    assertThat(cache.streamThrough(KEY, URL, (size, contentType, lastModified) -> null))
+        .isFalse();
+    assertThat(cache.peek(KEY, URL)).isNull();
+  }
+
+  @Test
+  void streamThroughReportsMissingObject() {
+    server.expect(requestTo(URL)).andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+    assertThat(cache.streamThrough(KEY, URL, (size, contentType, lastModified) -> null))
+        .isFalse();
+    assertThat(cache.peek(KEY, URL)).isNull();
+  }
+
+  @Test
+  void clientDisconnectAbortsQuietlyWithoutCaching() throws IOException {
+    server.expect(requestTo(URL)).andRespond(withSuccess(PDF, MediaType.APPLICATION_PDF));
+    OutputStream disconnected =
+        new OutputStream() {
+          @Override
+          public void write(int b) throws IOException {
+            throw new IOException("Broken pipe");
+          }
+        };
+
+    assertThat(cache.streamThrough(KEY, URL, (size, contentType, lastModified) -> disconnected))
+        .isTrue();
+
+    assertThat(cache.peek(KEY, URL)).isNull();
+    try (var files = Files.list(directory)) {
+      assertThat(files).isEmpty();
+    }
+  }
+
+  @Test
+  void discardRemovesEntryAndFiles() throws IOException {
+    server.expect(requestTo(URL)).andRespond(withSuccess(PDF, MediaType.APPLICATION_PDF));
+    ResumeFileCache.CachedResume entry = cache.get(KEY, URL);
+
+    cache.discard(entry);
+
+    assertThat(cache.peek(KEY, URL)).isNull();
+    try (var files = Files.list(directory)) {
+      assertThat(files).isEmpty();
+    }
+  }
+
+  private ResumeFileCache cache(Duration freshFor) {
+    return new ResumeFileCache(
+        restTemplate,
+        directory.toString(),
+        DataSize.ofKilobytes(64),
+        DataSize.ofKilobytes(16),
+        freshFor);
+  }
+
+  private static HttpHeaders validators() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setETag(ETAG);
+    headers.set(HttpHeaders.LAST_MODIFIED, "Wed, 01 Jan 2025 00:00:00 GMT");
+    return headers;
+  }
+}
@@ -0,0 +1,90 @@
+package com.portfolio.monolith.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ResumePathIndexTest {
+
+  private static final List<String> CANDIDATES =
+      List.of("en/resume.pdf", "resume_en.pdf", "resume.pdf");
+
+  private final ResumePathIndex index =
+      new ResumePathIndex(Duration.ofMinutes(10), Duration.ofMinutes(1), 3);
+
+  @AfterEach
+  void tearDown() {
+    index.shutdown();
+  }
+
+  @Test
+  void firstExistingCandidateInPriorityOrderWins() {
+    Predicate<String> exists = Set.of("resume_en.pdf", "resume.pdf")::contains;
+
+    assertThat(index.resolve("en", CANDIDATES, exists)).isEqualTo("resume_en.pdf");
+  }
+
+  @Test
+  void certainResultsAreCached() {
+    AtomicInteger probes = new AtomicInteger();
+    Predicate<String> exists =
+        path -> {
+          probes.incrementAndGet();
+          return path.equals("resume.pdf");
+        };
+
+    index.resolve("en", CANDIDATES, exists);
+    index.resolve("en", CANDIDATES, exists);
+
+    assertThat(probes).hasValue(CANDIDATES.size());
+  }
+
+  @Test
+  void missingFileIsCachedAsNegative() {
+    AtomicInteger probes = new AtomicInteger();
+    Predicate<String> exists =
+        path -> {
+          probes.incrementAndGet();
+          return false;
+        };
+
+    assertThat(index.resolve("en", CANDIDATES, exists)).isNull();
+    assertThat(index.resolve("en", CANDIDATES, exists)).isNull();
+
+    assertThat(probes).hasValue(CANDIDATES.size());
+  }
+
+  @Test
+  void failedProbeOfHigherPriorityPathIsNotCached() {
+    AtomicInteger probes = new AtomicInteger();
+    Predicate<String> exists =
+        path -> {
+          probes.incrementAndGet();
+          if (path.equals("en/resume.pdf")) {
+            throw new IllegalStateException("storage unavailable");
+          }
+          return path.equals("resume.pdf");
+        };
+
+    assertThat(index.resolve("en", CANDIDATES, exists)).isEqualTo("resume.pdf");
+    assertThat(index.resolve("en", CANDIDATES, exists)).isEqualTo("resume.pdf");
+
+    assertThat(probes).hasValue(2 * CANDIDATES.size());
+  }
+
+  @Test
+  void putAndInvalidateOverrideProbing() {
+    index.put("en", "uploaded.pdf");
+    assertThat(index.resolve("en", CANDIDATES, path -> false)).isEqualTo("uploaded.pdf");
+
+    index.invalidate("en");
+    assertThat(index.resolve("en", CANDIDATES, path -> false)).isNull();
+  }
+}
@@ -0,0 +1,210 @@
+package com.portfolio.monolith.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.monolith.exception.UnauthorizedException;
+
+class SupabaseJwtVerifierTest {
+
+  private static final String SUPABASE_URL = "https://project.supabase.co";
+  private static final String ISSUER = SUPABASE_URL + "/auth/v1";
+  private static final String JWKS_URL = ISSUER + "/.well-known/jwks.json";
+  private static final String SECRET = "super-secret-jwt-token-with-at-least-32-characters";
+
+  private static KeyPair rsa;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private MockRestServiceServer server;
+  private SupabaseJwtVerifier verifier;
+
+  @BeforeAll
+  static void generateKey() throws Exception {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    rsa = generator.generateKeyPair();
+  }
+
+  @BeforeEach
+  void setUp() {
+    RestTemplate restTemplate = new RestTemplate();
+    server = MockRestServiceServer.bindTo(restTemplate).build();
+    verifier =
+        new SupabaseJwtVerifier(
+            restTemplate,
+            objectMapper,
+            SUPABASE_URL,
+            SECRET,
+            "authenticated",
+            Duration.ofSeconds(30),
+            Duration.ofMinutes(5));
+  }
+
+  @Test
+  void acceptsRs256TokenSignedWithPublishedKey() throws Exception {
+    expectJwks(jwk("k1"));
+
+    JsonNode claims = verifier.verify(rs256(header("k1"), claims()));
+
+    assertThat(claims.path("sub").asText()).isEqualTo("user-1");
+    server.verify();
+  }
+
+  @Test
+  void rejectsRs256TokenWithoutKidWithoutFetchingJwks() throws Exception {
+    assertThatThrownBy(() -> verifier.verify(rs256(header(null), claims())))
+        .isInstanceOf(UnauthorizedException.class);
+    server.verify();
+  }
+
+  @Test
+  void rejectsRs256TokenWithUnknownKid() throws Exception {
+    expectJwks(jwk("k1"));
+    String token = rs256(header("k2"), claims());
+
+    assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(UnauthorizedException.class);
+    // Within the refresh interval a second unknown kid does not refetch the JWKS.
+    assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(UnauthorizedException.class);
+    server.verify();
+  }
+
+  @Test
+  void skipsJwksEntriesWithoutKid() throws Exception {
+    Map<String, Object> anonymous = jwk(null);
+    expectJwks(anonymous, jwk("k1"));
+
+    assertThat(verifier.verify(rs256(header("k1"), claims())).path("sub").asText())
+        .isEqualTo("user-1");
+  }
+
+  @Test
+  void acceptsHs256TokenSignedWithProjectSecret() throws Exception {
+    assertThat(verifier.verify(hs256(claims())).path("sub").asText()).isEqualTo("user-1");
+  }
+
+  @Test
+  void rejectsExpiredToken() throws Exception {
+    Map<String, Object> claims = claims();
+    claims.put("exp", Instant.now().minus(Duration.ofMinutes(5)).getEpochSecond());
+
+    assertThatThrownBy(() -> verifier.verify(hs256(claims)))
+        .isInstanceOf(UnauthorizedException.class)
+        .hasMessageContaining("expired");
+  }
+
+  @Test
+  void rejectsForeignIssuer() throws Exception {
+    Map<String, Object> claims = claims();
+    claims.put("iss", "https://other.supabase.co/auth/v1");
+
+    assertThatThrownBy(() -> verifier.verify(hs256(claims)))
+        .isInstanceOf(UnauthorizedException.class);
+  }
+
+  @Test
+  void rejectsTamperedSignature() throws Exception {
+    String token = hs256(claims());
+    String tampered = token.substring(0, token.length() - 2) + "AA";
+
+    assertThatThrownBy(() -> verifier.verify(tampered))
+        .isInstanceOf(UnauthorizedException.class);
+  }
+
+  @SafeVarargs
+  private void expectJwks(Map<String, Object>... keys) throws Exception {
+    String body = objectMapper.writeValueAsString(Map.of("keys", List.of(keys)));
+    server
+        .expect(once(), requestTo(JWKS_URL))
+        .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+  }
+
+  private static Map<String, Object> jwk(String kid) {
+    RSAPublicKey key = (RSAPublicKey) rsa.getPublic();
+    Map<String, Object> jwk = new LinkedHashMap<>();
+    jwk.put("kty", "RSA");
+    if (kid != null) {
+      jwk.put("kid", kid);
+    }
+    jwk.put("n", unsigned(key.getModulus().toByteArray()));
+    jwk.put("e", unsigned(key.getPublicExponent().toByteArray()));
+    return jwk;
+  }
+
+  private static Map<String, Object> header(String kid) {
+    Map<String, Object> header = new LinkedHashMap<>();
+    header.put("alg", "RS256");
+    header.put("typ", "JWT");
+    if (kid != null) {
+      header.put("kid", kid);
+    }
+    return header;
+  }
+
+  private static Map<String, Object> claims() {
+    Map<String, Object> claims = new LinkedHashMap<>();
+    claims.put("sub", "user-1");
+    claims.put("aud", "authenticated");
+    claims.put("iss", ISSUER);
+    claims.put("exp", Instant.now().plus(Duration.ofHours(1)).getEpochSecond());
+    return claims;
+  }
+
+  private String rs256(Map<String, Object> header, Map<String, Object> claims) throws Exception {
+    String signingInput = encode(header) + "." + encode(claims);
+    Signature signer = Signature.getInstance("SHA256withRSA");
+    signer.initSign(rsa.getPrivate());
+    signer.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+    return signingInput + "." + base64Url(signer.sign());
+  }
+
+  private String hs256(Map<String, Object> claims) throws Exception {
+    String signingInput = encode(Map.of("alg", "HS256", "typ", "JWT")) + "." + encode(claims);
+    Mac mac = Mac.getInstance("HmacSHA256");
+    mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+    return signingInput
+        + "."
+        + base64Url(mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+  }
+
+  private String encode(Map<String, Object> json) throws Exception {
+    return base64Url(objectMapper.writeValueAsBytes(json));
+  }
+
+  private static String unsigned(byte[] twosComplement) {
+    int offset = twosComplement.length > 1 && twosComplement[0] == 0 ? 1 : 0;
+    byte[] magnitude = new byte[twosComplement.length - offset];
+    System.arraycopy(twosComplement, offset, magnitude, 0, magnitude.length);
+    return base64Url(magnitude);
+  }
+
+  private static String base64Url(byte[] bytes) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+}
@@ -0,0 +1,214 @@
+package com.portfolio.monolith.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import com.portfolio.monolith.exception.ApiException;
+import com.portfolio.monolith.exception.BadRequestException;
+import com.portfolio.monolith.exception.NotFoundException;
+import com.portfolio.monolith.service.SupabaseStorageService.ResumeSink;
+
+class SupabaseStorageServiceTest {
+
+  private static final String SUPABASE_URL = "https://project.supabase.co";
+  private static final String PATH = "resume_en.pdf";
+  private static final String INFO_URL =
+      SUPABASE_URL + "/storage/v1/object/info/public/resumes/" + PATH;
+  private static final String PUBLIC_URL =
+      SUPABASE_URL + "/storage/v1/object/public/resumes/" + PATH;
+  private static final String UPLOAD_URL = SUPABASE_URL + "/storage/v1/object/resumes/" + PATH;
+  private static final byte[] PDF = "%PDF-1.7 resume body".getBytes(StandardCharsets.US_ASCII);
+
+  private MockRestServiceServer server;
+  private ResumeFileCache fileCache;
+  private ResumePathIndex pathIndex;
+  private SupabaseStorageService service;
+
+  @BeforeEach
+  void setUp() {
+    RestTemplate restTemplate = new RestTemplate();
+    server = MockRestServiceServer.bindTo(restTemplate).build();
+    fileCache = mock(ResumeFileCache.class);
+    pathIndex = mock(ResumePathIndex.class);
+    when(pathIndex.resolve(eq("en"), anyList(), any())).thenReturn(PATH);
+    service =
+        new SupabaseStorageService(
+            restTemplate,
+            fileCache,
+            pathIndex,
+            SUPABASE_URL + "/",
+            "service-role",
+            "resumes",
+            PATH,
+            "resume_fr.pdf",
+            "resume_es.pdf",
+            Duration.ofMinutes(5),
+            DataSize.ofMegabytes(1));
+  }
+
+  @Test
+  void metadataComesFromTheInfoEndpointAndIsCached() {
+    server
+        .expect(ExpectedCount.once(), requestTo(INFO_URL))
+        .andExpect(method(HttpMethod.GET))
+        .andRespond(
+            withSuccess(
+                "{\"id\":\"obj-1\",\"size\":2048,\"content_type\":\"application/pdf\","
+                    + "\"last_modified\":\"2024-05-01T10:15:30Z\"}",
+                MediaType.APPLICATION_JSON));
+
+    SupabaseStorageService.ResumeMetadata first = service.getCurrentResume("en");
+    SupabaseStorageService.ResumeMetadata second = service.getCurrentResume("EN");
+
+    assertThat(first.id()).isEqualTo("obj-1");
+    assertThat(first.fileName()).isEqualTo(PATH);
+    assertThat(first.fileSize()).isEqualTo(2048);
+    assertThat(first.contentType()).isEqualTo(MediaType.APPLICATION_PDF_VALUE);
+    assertThat(first.uploadedAt()).isEqualTo(Instant.parse("2024-05-01T10:15:30Z"));
+    assertThat(second).isSameAs(first);
+    server.verify();
+  }
+
+  @Test
+  void infoWithoutTopLevelFieldsFallsBackToNestedMetadata() {
+    server
+        .expect(requestTo(INFO_URL))
+        .andRespond(
+            withSuccess(
+                "{\"metadata\":{\"size\":512,\"mimetype\":\"application/pdf\"},"
+                    + "\"created_at\":\"2024-04-01T00:00:00Z\"}",
+                MediaType.APPLICATION_JSON));
+
+    SupabaseStorageService.ResumeMetadata metadata = service.getCurrentResume("en");
+
+    assertThat(metadata.id()).isNull();
+    assertThat(metadata.fileSize()).isEqualTo(512);
+    assertThat(metadata.uploadedAt()).isEqualTo(Instant.parse("2024-04-01T00:00:00Z"));
+  }
+
+  @Test
+  void missingInfoEndpointFallsBackToHead() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_PDF);
+    headers.setContentLength(4096);
+    headers.setLastModified(Instant.parse("2024-05-01T10:15:30Z"));
+    server.expect(requestTo(INFO_URL)).andRespond(withStatus(HttpStatus.BAD_REQUEST));
+    server
+        .expect(requestTo(PUBLIC_URL))
+        .andExpect(method(HttpMethod.HEAD))
+        .andRespond(withSuccess().headers(headers));
+
+    SupabaseStorageService.ResumeMetadata metadata = service.getCurrentResume("en");
+
+    assertThat(metadata.id()).isNull();
+    assertThat(metadata.fileSize()).isEqualTo(4096);
+    assertThat(metadata.contentType()).isEqualTo(MediaType.APPLICATION_PDF_VALUE);
+    assertThat(metadata.uploadedAt()).isEqualTo(Instant.parse("2024-05-01T10:15:30Z"));
+    server.verify();
+  }
+
+  @Test
+  void downloadRefusedByStorageIsANotFoundAfterReresolvingThePath() {
+    when(fileCache.peek(any(), eq(PUBLIC_URL)))
+        .thenThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "", null, null, null));
+
+    assertThatThrownBy(() -> service.downloadResume("en", mock(ResumeSink.class)))
+        .isInstanceOf(NotFoundException.class);
+
+    verify(pathIndex, times(2)).invalidate("en");
+  }
+
+  @Test
+  void uploadStreamsTheBodyAndReturnsItsDigest() throws Exception {
+    server
+        .expect(ExpectedCount.once(), requestTo(UPLOAD_URL))
+        .andExpect(method(HttpMethod.POST))
+        .andExpect(header("apikey", "service-role"))
+        .andExpect(header(HttpHeaders.AUTHORIZATION, "Bearer service-role"))
+        .andExpect(header("x-upsert", "true"))
+        .andExpect(header(HttpHeaders.CONTENT_LENGTH, String.valueOf(PDF.length)))
+        .andExpect(content().bytes(PDF))
+        .andRespond(withSuccess());
+
+    SupabaseStorageService.UploadResult result =
+        service.uploadResume(pdf("application/pdf", PDF), "en");
+
+    String expected = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(PDF));
+    assertThat(result.path()).isEqualTo(PATH);
+    assertThat(result.size()).isEqualTo(PDF.length);
+    assertThat(result.sha256()).isEqualTo(expected);
+    server.verify();
+    verify(fileCache).purge("en");
+    verify(pathIndex).put("en", PATH);
+  }
+
+  @Test
+  void uploadRejectsABodyWithoutPdfMagicBeforeContactingStorage() {
+    byte[] html = "<html>not a pdf</html>".getBytes(StandardCharsets.US_ASCII);
+
+    assertThatThrownBy(() -> service.uploadResume(pdf("application/pdf", html), "en"))
+        .isInstanceOf(BadRequestException.class)
+        .hasMessage("Only PDF files are allowed");
+    server.verify();
+  }
+
+  @Test
+  void uploadRejectsNonPdfContentTypeAndOversizedFiles() {
+    assertThatThrownBy(() -> service.uploadResume(pdf("text/plain", PDF), "en"))
+        .isInstanceOf(BadRequestException.class)
+        .hasMessage("Only PDF files are allowed");
+
+    byte[] large = new byte[(int) DataSize.ofMegabytes(1).toBytes() + 1];
+    System.arraycopy(PDF, 0, large, 0, PDF.length);
+    assertThatThrownBy(() -> service.uploadResume(pdf("application/pdf", large), "en"))
+        .isInstanceOf(BadRequestException.class)
+        .hasMessageStartingWith("File exceeds the maximum size");
+    server.verify();
+  }
+
+  @Test
+  void uploadRejectedByStorageIsABadGateway() {
+    server.expect(requestTo(UPLOAD_URL)).andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+
+    assertThatThrownBy(() -> service.uploadResume(pdf("application/pdf", PDF), "en"))
+        .isInstanceOfSatisfying(
+            ApiException.class,
+            ex -> assertThat(ex.getStatus()).isEqualTo(HttpStatus.BAD_GATEWAY));
+  }
+
+  private static MockMultipartFile pdf(String contentType, byte[] content) {
+    return new MockMultipartFile("file", "resume.pdf", contentType, content);
+  }
+}
@@ -0,0 +1,60 @@
+#!/bin/bash
+
+# Compares public GET latency with and without the auth cookie.
+#
+# With deferred authentication the two columns should be within noise of each other: a
+# permit-all route never validates the token unless the handler asks for the principal.
+#
+# Usage:
+#   AUTH_TOKEN=<access token> ./benchmark-public-auth.sh [base-url] [requests-per-endpoint]
+#
+# AUTH_TOKEN can be copied from the vp_auth_token cookie after logging in as admin.
+
+BASE_URL="${1:-http://localhost:8080/api}"
+REQUESTS="${2:-200}"
+COOKIE_NAME="${SUPABASE_AUTH_COOKIE_NAME:-vp_auth_token}"
+ENDPOINTS=("/projects" "/skills" "/education" "/experience" "/hobbies" "/testimonials" "/portfolio")
+
+if [ -z "$AUTH_TOKEN" ]; then
+    echo "ERROR: set AUTH_TOKEN to a valid access token"
+    exit 1
+fi
+
+if ! command -v curl >/dev/null 2>&1; then
+    echo "ERROR: curl is required"
+    exit 1
+fi
+
+# Prints "avg p50 p95" in milliseconds for REQUESTS sequential GETs.
+measure() {
+    local url="$1"
+    shift
+    for _ in $(seq 1 "$REQUESTS"); do
+        curl -s -o /dev/null -w "%{time_total}\n" "$@" "$url"
+    done | sort -n | awk '
+        { t[NR] = $1 * 1000; sum += t[NR] }
+        END {
+            p50 = t[int(NR * 0.50) > 0 ? int(NR * 0.50) : 1]
+            p95 = t[int(NR * 0.95) > 0 ? int(NR * 0.95) : 1]
+            printf "%8.2f %8.2f %8.2f", sum / NR, p50, p95
+        }'
+}
+
+echo ""
+echo "========================================"
+echo "Public GET latency: anonymous vs cookie"
+echo "========================================"
+echo "Base URL: $BASE_URL, $REQUESTS requests per endpoint (ms)"
+echo ""
+printf "%-14s | %-26s | %-26s\n" "endpoint" "anonymous avg/p50/p95" "with cookie avg/p50/p95"
+
+for endpoint in "${ENDPOINTS[@]}"; do
+    url="$BASE_URL$endpoint"
+    # Warm up caches so both runs measure the same server-side path.
+    curl -s -o /dev/null "$url"
+    anonymous=$(measure "$url")
+    with_cookie=$(measure "$url" -H "Cookie: $COOKIE_NAME=$AUTH_TOKEN")
+    printf "%-14s | %s | %s\n" "$endpoint" "$anonymous" "$with_cookie"
+done
+
+echo ""
@@ -18,6 +18,25 @@ create table if not exists public.admin_users (
   created_at timestamptz not null default now()
 );
 
+-- Tell backend replicas to reload their in-memory admin set.
+create or replace function public.notify_admin_users_change()
+returns trigger
+language plpgsql
+as $$
+begin
+  perform pg_notify(
+    'portfolio_content_changes',
+    json_build_object('table', tg_table_name)::text
+  );
+  return null;
+end;
+$$;
+
+drop trigger if exists trg_admin_users_notify_change on public.admin_users;
+create trigger trg_admin_users_notify_change
+after insert or update or delete or truncate on public.admin_users
+for each statement execute function public.notify_admin_users_change();
+
 create or replace function public.is_admin()
 returns boolean
 language sql
@@ -38,6 +57,9 @@ alter table public.work_experience enable row level security;
 alter table public.hobbies enable row level security;
 alter table public.testimonials enable row level security;
 alter table public.messages enable row level security;
+-- Backend-only queue: RLS on with no policies, so anon/authenticated clients cannot touch it.
+alter table public.contact_notification_outbox enable row level security;
+alter table public.contact_rate_limit_buckets enable row level security;
 
 -- 3) PROJECTS
 drop policy if exists "Public read" on public.projects;
@@ -14,6 +14,27 @@ begin
 end;
 $$;
 
+-- Broadcast content writes so every backend replica can drop its in-process read cache.
+create or replace function public.notify_content_change()
+returns trigger
+language plpgsql
+as $$
+declare
+  changed_id bigint;
+begin
+  if tg_op = 'DELETE' then
+    changed_id = old.id;
+  else
+    changed_id = new.id;
+  end if;
+  perform pg_notify(
+    'portfolio_content_changes',
+    json_build_object('table', tg_table_name, 'id', changed_id)::text
+  );
+  return null;
+end;
+$$;
+
 create table if not exists public.projects (
   id bigserial primary key,
   title_en varchar(255) not null,
@@ -40,6 +61,11 @@ create trigger trg_projects_updated_at
 before update on public.projects
 for each row execute function public.set_updated_at();
 
+drop trigger if exists trg_projects_notify_change on public.projects;
+create trigger trg_projects_notify_change
+after insert or update or delete on public.projects
+for each row execute function public.notify_content_change();
+
 create table if not exists public.skills (
   id bigserial primary key,
   name_en varchar(255) not null,
@@ -62,6 +88,11 @@ create trigger trg_skills_updated_at
 before update on public.skills
 for each row execute function public.set_updated_at();
 
+drop trigger if exists trg_skills_notify_change on public.skills;
+create trigger trg_skills_notify_change
+after insert or update or delete on public.skills
+for each row execute function public.notify_content_change();
+
 create table if not exists public.education (
   id bigserial primary key,
   institution_name_en varchar(255) not null,
@@ -91,6 +122,11 @@ create trigger trg_education_updated_at
 before update on public.education
 for each row execute function public.set_updated_at();
 
+drop trigger if exists trg_education_notify_change on public.education;
+create trigger trg_education_notify_change
+after insert or update or delete on public.education
+for each row execute function public.notify_content_change();
+
 create table if not exists public.work_experience (
   id bigserial primary key,
   company_name_en varchar(255) not null,
@@ -121,6 +157,11 @@ create trigger trg_work_experience_updated_at
 before update on public.work_experience
 for each row execute function public.set_updated_at();
 
+drop trigger if exists trg_work_experience_notify_change on public.work_experience;
+create trigger trg_work_experience_notify_change
+after insert or update or delete on public.work_experience
+for each row execute function public.notify_content_change();
+
 create table if not exists public.hobbies (
   id bigserial primary key,
   name_en varchar(255) not null,
@@ -139,6 +180,11 @@ create trigger trg_hobbies_updated_at
 before update on public.hobbies
 for each row execute function public.set_updated_at();
 
+drop trigger if exists trg_hobbies_notify_change on public.hobbies;
+create trigger trg_hobbies_notify_change
+after insert or update or delete on public.hobbies
+for each row execute function public.notify_content_change();
+
 create table if not exists public.testimonials (
   id bigserial primary key,
   client_name varchar(255) not null,
@@ -165,6 +211,11 @@ create trigger trg_testimonials_updated_at
 before update on public.testimonials
 for each row execute function public.set_updated_at();
 
+drop trigger if exists trg_testimonials_notify_change on public.testimonials;
+create trigger trg_testimonials_notify_change
+after insert or update or delete on public.testimonials
+for each row execute function public.notify_content_change();
+
 create table if not exists public.messages (
   id bigserial primary key,
   sender_name varchar(255) not null,
@@ -178,6 +229,33 @@ create table if not exists public.messages (
 
 create index if not exists idx_messages_read on public.messages(is_read);
 
+-- Pending contact email notifications, written in the same transaction as the message.
+create table if not exists public.contact_notification_outbox (
+  id bigserial primary key,
+  message_id bigint not null references public.messages(id) on delete cascade,
+  status varchar(20) not null default 'PENDING' check (status in ('PENDING', 'DEAD')),
+  attempts integer not null default 0,
+  next_attempt_at timestamptz not null default now(),
+  locked_until timestamptz,
+  last_error text,
+  created_at timestamptz not null default now()
+);
+
+create index if not exists idx_contact_notification_outbox_due
+on public.contact_notification_outbox(next_attempt_at)
+where status = 'PENDING';
+
+-- Shared contact-form rate-limit buckets (security.contact.rate-limit.backend=postgres).
+-- state is Bucket4j's serialized bucket, updated by compare-and-swap from the backend.
+create table if not exists public.contact_rate_limit_buckets (
+  id varchar(128) primary key,
+  state bytea not null,
+  expires_at timestamptz not null
+);
+
+create index if not exists idx_contact_rate_limit_buckets_expires
+on public.contact_rate_limit_buckets(expires_at);
+
 drop trigger if exists trg_messages_updated_at on public.messages;
 create trigger trg_messages_updated_at
 before update on public.messages